@@ -18,12 +18,19 @@ package org.jmolecules.bytebuddy;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 
 import example.SampleAnnotatedAggregate;
+import example.SampleEventSourcedAggregate;
 import example.SampleQueryModel;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import org.axonframework.eventsourcing.EventCountSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
 
 import org.axonframework.spring.stereotype.Aggregate;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
 class JMoleculesAxonSpringPluginTests {
@@ -35,6 +42,28 @@ class JMoleculesAxonSpringPluginTests {
 		assertThat(hasAnnotation(SampleQueryModel.class, Component.class)).isTrue();
 	}
 
+	@Test // configured in jmolecules.config
+	void configuresSnapshotTriggerForAggregate() throws Exception {
+
+		String beanName = SampleEventSourcedAggregate.class.getName() + "SnapshotTriggerDefinition";
+
+		assertThat(SampleEventSourcedAggregate.class.getAnnotation(Aggregate.class).snapshotTriggerDefinition())
+				.isEqualTo(beanName);
+		assertThat(SampleAnnotatedAggregate.class.getAnnotation(Aggregate.class).snapshotTriggerDefinition())
+				.isEmpty();
+
+		Class<?> configuration = Class.forName("example.SampleEventSourcedAggregateSnapshotConfiguration$jMolecules");
+
+		assertThat(hasAnnotation(configuration, Configuration.class)).isTrue();
+
+		Method method = configuration.getMethod("snapshotTriggerDefinition", Snapshotter.class);
+
+		assertThat(method.getAnnotation(Bean.class).name()).containsExactly(beanName);
+		assertThat(method.invoke(configuration.getDeclaredConstructor().newInstance(), (Object) null))
+				.isInstanceOf(EventCountSnapshotTriggerDefinition.class)
+				.hasFieldOrPropertyWithValue("threshold", 100);
+	}
+
 	private static boolean hasAnnotation(Class<?> target, Class<? extends Annotation> annotation) {
 		return target.getAnnotation(annotation) != null;
 	}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.springframework.data.annotation.Version;
+
+/**
+ * @author Oliver Drotbohm
+ */
+@Getter
+public class SampleSpringDataPrimitiveIntVersionedAggregate implements AggregateRoot<SampleSpringDataPrimitiveIntVersionedAggregate, SampleOtherIdentifier> {
+
+	private final SampleOtherIdentifier id;
+	private @Version @Setter int version;
+
+	public SampleSpringDataPrimitiveIntVersionedAggregate(SampleOtherIdentifier id) {
+		this.id = id;
+	}
+}
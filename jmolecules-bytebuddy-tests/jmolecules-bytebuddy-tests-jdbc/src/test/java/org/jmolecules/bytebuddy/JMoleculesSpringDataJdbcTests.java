@@ -18,14 +18,32 @@ package org.jmolecules.bytebuddy;
 import static org.assertj.core.api.Assertions.*;
 
 import example.SampleAggregate;
+import example.SampleAggregates;
+import example.SampleAggregates.IdOnly;
 import example.SampleAggregateIdentifier;
 import example.SampleEntity;
+import example.SampleOtherIdentifier;
 import example.SampleRecord;
-
+import example.SampleRepository;
+import example.SampleSpringDataPrimitiveIntVersionedAggregate;
+import example.SampleSpringDataPrimitiveLongVersionedAggregate;
+import example.SampleSpringDataVersionedAggregate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jmolecules.ddd.types.Association;
 import org.jmolecules.spring.data.MutablePersistable;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -115,4 +133,117 @@ class JMoleculesSpringDataJdbcTests {
 
 		assertThat(first).isEqualTo(second);
 	}
+
+	@Test
+	void derivesIsNewFromVersionField() {
+
+		var aggregate = new SampleSpringDataVersionedAggregate(new SampleOtherIdentifier());
+
+		assertThat(aggregate).isInstanceOfSatisfying(Persistable.class, it -> {
+
+			assertThat(it.isNew()).isTrue();
+			aggregate.setVersion(0L);
+			assertThat(it.isNew()).isFalse();
+		});
+
+		assertThat(aggregate).isNotInstanceOf(MutablePersistable.class);
+		assertThat(ReflectionUtils.findField(SampleSpringDataVersionedAggregate.class, PersistableImplementor.IS_NEW_FIELD)).isNull();
+		assertThat(ClassUtils.isPresent(SampleSpringDataVersionedAggregate.class.getName() + "JMoleculesCallbacks",
+				getClass().getClassLoader())).isFalse();
+	}
+
+	@Test
+	void implementsConfiguredSpringDataRepositoryBase() {
+
+		var metadata = new DefaultRepositoryMetadata(SampleRepository.class);
+
+		assertThat(ListCrudRepository.class).isAssignableFrom(SampleRepository.class);
+		assertThat(metadata.getDomainType()).isEqualTo(SampleAggregate.class);
+		assertThat(metadata.getIdType()).isEqualTo(SampleAggregateIdentifier.class);
+	}
+
+	@Test
+	void routesAssociationResolutionToIdBasedQueries() throws Exception {
+
+		List<String> invocations = new ArrayList<>();
+
+		InvocationHandler handler = (proxy, method, arguments) -> {
+
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, arguments);
+			}
+
+			invocations.add(method.getName() + arguments.length);
+
+			return method.getName().equals("existsById") ? true : Optional.of(arguments[1]);
+		};
+
+		var repository = (SampleAggregates) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { SampleAggregates.class }, handler);
+		var association = Association.forId(id);
+
+		assertThat(repository.exists(association)).isTrue();
+		assertThat(repository.resolve(association, IdOnly.class)).hasValue(IdOnly.class);
+		assertThat(invocations).containsExactly("existsById1", "findById2");
+
+		// Dynamic projection query method
+		var method = SampleAggregates.class.getMethod("findById", SampleAggregateIdentifier.class, Class.class);
+
+		assertThat(method.getTypeParameters()).hasSize(1);
+		assertThat(method.getGenericReturnType().getTypeName()).isEqualTo("java.util.Optional<P>");
+	}
+
+	@Test
+	void resolvesAssociationsWithSingleBatchLookup() {
+
+		var first = new SampleAggregate(id);
+		var other = new SampleAggregate(new SampleAggregateIdentifier("other"));
+		List<Object> invocations = new ArrayList<>();
+
+		InvocationHandler handler = (proxy, method, arguments) -> {
+
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, arguments);
+			}
+
+			invocations.add(method.getName());
+			invocations.add(arguments[0]);
+
+			return List.of(first, other);
+		};
+
+		var repository = (SampleAggregates) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { SampleAggregates.class }, handler);
+
+		var result = repository.resolveAll(List.of(Association.forId(id), Association.forId(other.getId()),
+				Association.forId(id)));
+
+		assertThat(result).containsExactly(entry(id, first), entry(other.getId(), other));
+		assertThat(invocations).containsExactly("findAllById", Set.of(id, other.getId()));
+	}
+
+	@Test
+	void derivesIsNewFromPrimitiveVersionField() {
+
+		var longVersioned = new SampleSpringDataPrimitiveLongVersionedAggregate(new SampleOtherIdentifier());
+		var intVersioned = new SampleSpringDataPrimitiveIntVersionedAggregate(new SampleOtherIdentifier());
+
+		assertThat(longVersioned)
+				.isNotInstanceOf(MutablePersistable.class)
+				.isInstanceOfSatisfying(Persistable.class, it -> {
+
+					assertThat(it.isNew()).isTrue();
+					longVersioned.setVersion(1L);
+					assertThat(it.isNew()).isFalse();
+				});
+
+		assertThat(intVersioned)
+				.isNotInstanceOf(MutablePersistable.class)
+				.isInstanceOfSatisfying(Persistable.class, it -> {
+
+					assertThat(it.isNew()).isTrue();
+					intVersioned.setVersion(1);
+					assertThat(it.isNew()).isFalse();
+				});
+	}
 }
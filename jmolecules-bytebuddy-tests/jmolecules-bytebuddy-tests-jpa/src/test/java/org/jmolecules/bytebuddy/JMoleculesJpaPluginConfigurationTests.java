@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.Converter;
+import javax.persistence.EmbeddedId;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.LazyGroup;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Entity;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.spring.jpa.JpaIdentifierAttributeConverter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for configuration dependent mappings applied by {@link JMoleculesJpaPlugin}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JMoleculesJpaPluginConfigurationTests {
+
+	@Test
+	void defaultsBatchSizeForConfiguredBatchSize() throws Exception {
+
+		Field field = transform(Order.class, "bytebuddy.jpa.collections.batch-size", "25")
+				.getDeclaredField("lineItems");
+
+		assertThat(field.getAnnotation(BatchSize.class)).extracting(BatchSize::size).isEqualTo(25);
+		assertThat(field.getAnnotation(Fetch.class)).isNull();
+		assertThat(field.getAnnotation(OneToMany.class)).extracting(OneToMany::fetch).isEqualTo(FetchType.EAGER);
+	}
+
+	@Test
+	void defaultsSubselectFetchingForLazyCollections() throws Exception {
+
+		Field field = transform(Order.class, "bytebuddy.jpa.collections.fetch", "LAZY")
+				.getDeclaredField("lineItems");
+
+		assertThat(field.getAnnotation(Fetch.class)).extracting(Fetch::value).isEqualTo(FetchMode.SUBSELECT);
+		assertThat(field.getAnnotation(BatchSize.class)).isNull();
+		assertThat(field.getAnnotation(OneToMany.class)).extracting(OneToMany::fetch).isEqualTo(FetchType.LAZY);
+	}
+
+	@Test
+	void appliesConfiguredFetchMode() throws Exception {
+
+		Field field = transform(Order.class, "bytebuddy.jpa.collections.fetch-mode", "join")
+				.getDeclaredField("lineItems");
+
+		assertThat(field.getAnnotation(Fetch.class)).extracting(Fetch::value).isEqualTo(FetchMode.JOIN);
+		assertThat(field.getAnnotation(BatchSize.class)).isNull();
+	}
+
+	@Test
+	void doesNotAddFetchModeForEagerCollectionsByDefault() throws Exception {
+
+		Field field = transform(Order.class).getDeclaredField("lineItems");
+
+		assertThat(field.getAnnotation(Fetch.class)).isNull();
+		assertThat(field.getAnnotation(BatchSize.class)).isNull();
+		assertThat(field.getAnnotation(OneToMany.class)).extracting(OneToMany::fetch).isEqualTo(FetchType.EAGER);
+	}
+
+	@Test
+	void defaultsLazyToOneAssociationsWithLazyGroupForEnhancedEntities() throws Exception {
+
+		Class<?> type = transform(Order.class, "bytebuddy.jpa.hibernate-enhancement", "true");
+		Field toOne = type.getDeclaredField("primaryLineItem");
+		Field toMany = type.getDeclaredField("lineItems");
+
+		assertThat(toOne.getAnnotation(OneToOne.class)).extracting(OneToOne::fetch).isEqualTo(FetchType.LAZY);
+		assertThat(toOne.getAnnotation(LazyGroup.class)).extracting(LazyGroup::value).isEqualTo("primaryLineItem");
+
+		assertThat(toMany.getAnnotation(OneToMany.class)).extracting(OneToMany::fetch).isEqualTo(FetchType.LAZY);
+		assertThat(toMany.getAnnotation(BatchSize.class)).extracting(BatchSize::size)
+				.isEqualTo(JMoleculesJpaPlugin.DEFAULT_BATCH_SIZE);
+		assertThat(toMany.getAnnotation(LazyGroup.class)).isNull();
+	}
+
+	@Test
+	void doesNotDefaultLazyGroupsWithoutEnhancement() throws Exception {
+
+		Field toOne = transform(Order.class).getDeclaredField("primaryLineItem");
+
+		assertThat(toOne.getAnnotation(OneToOne.class)).extracting(OneToOne::fetch).isEqualTo(FetchType.EAGER);
+		assertThat(toOne.getAnnotation(LazyGroup.class)).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void mapsSingleValueIdentifiersViaConverter() throws Exception {
+
+		Field field = transform(Customer.class, "bytebuddy.jpa.identifier-converters", "true").getDeclaredField("id");
+
+		assertThat(field.getAnnotation(Id.class)).isNotNull();
+		assertThat(field.getAnnotation(EmbeddedId.class)).isNull();
+
+		Class<?> converterType = field.getAnnotation(Convert.class).converter();
+
+		assertThat(JpaIdentifierAttributeConverter.class).isAssignableFrom(converterType);
+		assertThat(converterType.getAnnotation(Converter.class)).isNotNull();
+
+		Constructor<?> constructor = converterType.getDeclaredConstructor();
+		constructor.setAccessible(true);
+
+		AttributeConverter<CustomerIdentifier, Object> converter = (AttributeConverter<CustomerIdentifier, Object>) constructor
+				.newInstance();
+		CustomerIdentifier identifier = new CustomerIdentifier(UUID.randomUUID());
+
+		assertThat(converter.convertToDatabaseColumn(identifier)).isEqualTo(identifier.id);
+		assertThat(converter.convertToEntityAttribute(identifier.id)).isEqualTo(identifier);
+	}
+
+	/**
+	 * Applies a {@link JMoleculesJpaPlugin} set up with the given configuration properties to the given type and returns
+	 * the transformed type loaded in a dedicated {@link ClassLoader}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param properties pairs of configuration keys and values.
+	 * @return will never be {@literal null}.
+	 */
+	static Class<?> transform(Class<?> type, String... properties) {
+
+		Properties configuration = new Properties();
+
+		for (int i = 0; i < properties.length; i += 2) {
+			configuration.put(properties[i], properties[i + 1]);
+		}
+
+		ClassFileLocator locator = ClassFileLocator.ForClassLoader.of(type.getClassLoader());
+		ClassWorld world = ClassWorld.of(locator);
+		Jpa jpa = Jpa.getJavaPersistence(world).orElseThrow();
+
+		JMoleculesJpaPlugin plugin = new JMoleculesJpaPlugin(jpa, world, new JMoleculesConfiguration(configuration),
+				new TypeClassification.Cache(), new HelperTypes(), new HashSet<>());
+
+		return plugin.apply(new ByteBuddy().redefine(type, locator), TypeDescription.ForLoadedType.of(type), locator)
+				.make()
+				.load(type.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+				.getLoaded();
+	}
+
+	static class OrderIdentifier implements Identifier {}
+
+	// Public as the generated converter is loaded by a different class loader
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	public static class CustomerIdentifier implements Identifier {
+		final UUID id;
+	}
+
+	static class Customer implements AggregateRoot<Customer, CustomerIdentifier> {
+
+		CustomerIdentifier id;
+
+		@Override
+		public CustomerIdentifier getId() {
+			return id;
+		}
+	}
+
+	static class LineItemIdentifier implements Identifier {}
+
+	static class Order implements AggregateRoot<Order, OrderIdentifier> {
+
+		OrderIdentifier id;
+		LineItem primaryLineItem;
+		List<LineItem> lineItems;
+
+		@Override
+		public OrderIdentifier getId() {
+			return id;
+		}
+	}
+
+	static class LineItem implements Entity<Order, LineItemIdentifier> {
+
+		LineItemIdentifier id;
+
+		@Override
+		public LineItemIdentifier getId() {
+			return id;
+		}
+	}
+}
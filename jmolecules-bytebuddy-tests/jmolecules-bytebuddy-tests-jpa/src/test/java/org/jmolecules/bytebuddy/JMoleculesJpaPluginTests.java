@@ -21,6 +21,8 @@ import example.*;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -29,6 +31,8 @@ import javax.persistence.*;
 import org.hibernate.annotations.EmbeddableInstantiator;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -193,6 +197,101 @@ class JMoleculesJpaPluginTests {
 				.contains("Generated");
 	}
 
+	@Test
+	void generatedEqualsConsidersTransientEntitiesEqualToThemselvesOnly() {
+
+		var entity = new SampleEntity();
+
+		assertThat(entity).isEqualTo(entity);
+		assertThat(entity).isNotEqualTo(new SampleEntity());
+		assertThat(entity).isNotEqualTo(null);
+
+		assertThat(new SampleEntity(1L))
+				.isEqualTo(new SampleEntity(1L))
+				.hasSameHashCodeAs(new SampleEntity(1L))
+				.isNotEqualTo(new SampleEntity(2L));
+	}
+
+	@Test
+	void generatedEqualsComparesHibernateProxiesWithoutInitializingThem() {
+
+		var entity = new SampleEntity(1L);
+
+		assertThat(entity).isEqualTo(new SampleEntityProxy(SampleEntity.class, 1L));
+		assertThat(entity).isNotEqualTo(new SampleEntityProxy(SampleEntity.class, 2L));
+		assertThat(entity).isNotEqualTo(new SampleEntityProxy(SampleEntity.class, null));
+
+		// Same type rule as for unproxied instances
+		assertThat(new SampleSubEntity(1L)).isEqualTo(new SampleEntityProxy(SampleSubEntity.class, 1L));
+		assertThat(new SampleSubEntity(1L)).isNotEqualTo(new SampleEntity(1L));
+		assertThat(new SampleSubEntity(1L)).isNotEqualTo(new SampleEntityProxy(SampleEntity.class, 1L));
+
+		// Proxies for unrelated types
+		assertThat(entity).isNotEqualTo(new SampleEntityProxy(SampleAggregate.class, 1L));
+	}
+
+	@Test
+	void cachesIdentifierHashCodeInTransientField() throws Exception {
+
+		var field = SampleEntity.class.getDeclaredField(EntityImplementor.HASH_CODE_FIELD);
+
+		assertThat(Modifier.isTransient(field.getModifiers())).isTrue();
+		assertThat(field.getAnnotation(Transient.class)).isNotNull();
+
+		var entity = new SampleEntity(1L);
+		var hashCode = entity.hashCode();
+
+		ReflectionUtils.makeAccessible(field);
+
+		assertThat(ReflectionUtils.getField(field, entity)).isEqualTo(hashCode);
+		assertThat(hashCode).isEqualTo(Long.valueOf(1L).hashCode());
+	}
+
+	static class SampleSubEntity extends SampleEntity {
+
+		SampleSubEntity(Long id) {
+			super(id);
+		}
+	}
+
+	/**
+	 * A {@link HibernateProxy} for {@link SampleEntity} as created by Hibernate, i.e. a subclass with none of the state
+	 * populated. Initializing the proxy fails the test.
+	 */
+	@SuppressWarnings("serial")
+	static class SampleEntityProxy extends SampleEntity implements HibernateProxy {
+
+		private final LazyInitializer initializer;
+
+		SampleEntityProxy(Class<?> persistentClass, Long id) {
+
+			this.initializer = (LazyInitializer) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { LazyInitializer.class }, (proxy, method, arguments) -> {
+
+						switch (method.getName()) {
+							case "getPersistentClass":
+								return persistentClass;
+							case "getIdentifier":
+								return id;
+							case "isUninitialized":
+								return true;
+							default:
+								throw new IllegalStateException("Unexpected proxy initialization via " + method.getName() + "!");
+						}
+					});
+		}
+
+		@Override
+		public Object writeReplace() {
+			return this;
+		}
+
+		@Override
+		public LazyInitializer getHibernateLazyInitializer() {
+			return initializer;
+		}
+	}
+
 	private static void assertDoesNotHaveAnnotation(Class<?> type, Class<? extends Annotation> expected) {
 
 		Stream<Class<?>> annotationTypes = Arrays.stream(type.getAnnotations())
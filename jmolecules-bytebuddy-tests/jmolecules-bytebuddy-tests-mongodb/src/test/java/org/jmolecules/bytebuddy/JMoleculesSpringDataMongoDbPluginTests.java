@@ -18,9 +18,15 @@ package org.jmolecules.bytebuddy;
 import static org.assertj.core.api.Assertions.*;
 
 import example.SampleAggregate;
+import example.SampleOtherIdentifier;
+import example.SampleSpringDataPrimitiveIntVersionedAggregate;
+import example.SampleSpringDataPrimitiveLongVersionedAggregate;
+import example.SampleSpringDataVersionedAggregate;
 
+import org.jmolecules.spring.data.MutablePersistable;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -41,4 +47,44 @@ class JMoleculesSpringDataMongoDbPluginTests {
 				.filteredOn(it -> it.annotationType().equals(Id.class))
 				.hasSize(1);
 	}
+
+	@Test
+	void derivesIsNewFromVersionField() {
+
+		var aggregate = new SampleSpringDataVersionedAggregate(new SampleOtherIdentifier());
+
+		assertThat(aggregate)
+				.isNotInstanceOf(MutablePersistable.class)
+				.isInstanceOfSatisfying(Persistable.class, it -> {
+
+					assertThat(it.isNew()).isTrue();
+					aggregate.setVersion(0L);
+					assertThat(it.isNew()).isFalse();
+				});
+	}
+
+	@Test
+	void derivesIsNewFromPrimitiveVersionField() {
+
+		var longVersioned = new SampleSpringDataPrimitiveLongVersionedAggregate(new SampleOtherIdentifier());
+		var intVersioned = new SampleSpringDataPrimitiveIntVersionedAggregate(new SampleOtherIdentifier());
+
+		assertThat(longVersioned)
+				.isNotInstanceOf(MutablePersistable.class)
+				.isInstanceOfSatisfying(Persistable.class, it -> {
+
+					assertThat(it.isNew()).isTrue();
+					longVersioned.setVersion(1L);
+					assertThat(it.isNew()).isFalse();
+				});
+
+		assertThat(intVersioned)
+				.isNotInstanceOf(MutablePersistable.class)
+				.isInstanceOfSatisfying(Persistable.class, it -> {
+
+					assertThat(it.isNew()).isTrue();
+					intVersioned.setVersion(1);
+					assertThat(it.isNew()).isFalse();
+				});
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.build.Plugin.Engine.Source;
+import net.bytebuddy.build.Plugin.Engine.Target;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jmolecules.ddd.annotation.Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link JMoleculesPlugin} leaving class files untouched if no plugin would change them.
+ *
+ * @author Oliver Drotbohm
+ */
+class JMoleculesPluginNoOpTests {
+
+	@Test
+	void retainsClassFilesOfTypesNotChangedByAnyPlugin(@TempDir Path project) throws Exception {
+
+		Path classes = Files.createDirectories(project.resolve("target/classes"));
+
+		Files.createFile(project.resolve("pom.xml"));
+		Files.writeString(project.resolve("jmolecules.config"), "bytebuddy.skip-no-ops=true");
+
+		byte[] untouched = copyClassFile(AlreadyAnnotatedService.class, classes);
+		byte[] transformed = copyClassFile(UnannotatedService.class, classes);
+
+		ClassFileLocator classpath = ClassFileLocator.ForClassLoader.of(getClass().getClassLoader());
+
+		try (JMoleculesPlugin plugin = new JMoleculesPlugin(classes.toFile())) {
+
+			new Plugin.Engine.Default()
+					.with(classpath)
+					.apply(new Source.ForFolder(classes.toFile()), new Target.ForFolder(classes.toFile()),
+							new Plugin.Factory.Simple(plugin));
+		}
+
+		assertThat(readClassFile(AlreadyAnnotatedService.class, classes)).isEqualTo(untouched);
+		assertThat(readClassFile(UnannotatedService.class, classes)).isNotEqualTo(transformed);
+
+		TypePool pool = TypePool.Default.of(new ClassFileLocator.Compound(new ClassFileLocator.ForFolder(classes.toFile()),
+				classpath));
+
+		assertThat(pool.describe(UnannotatedService.class.getName()).resolve().getDeclaredAnnotations()
+				.isAnnotationPresent(org.springframework.stereotype.Service.class)).isTrue();
+	}
+
+	private static byte[] copyClassFile(Class<?> type, Path folder) throws IOException {
+
+		Path target = getClassFile(type, folder);
+
+		Files.createDirectories(target.getParent());
+
+		try (InputStream stream = type.getResourceAsStream(type.getName().substring(type.getName().lastIndexOf('.') + 1)
+				+ ".class")) {
+			Files.copy(stream, target);
+		}
+
+		return Files.readAllBytes(target);
+	}
+
+	private static byte[] readClassFile(Class<?> type, Path folder) throws IOException {
+		return Files.readAllBytes(getClassFile(type, folder));
+	}
+
+	private static Path getClassFile(Class<?> type, Path folder) {
+		return folder.resolve(type.getName().replace('.', '/') + ".class");
+	}
+
+	@Service
+	@org.springframework.stereotype.Service
+	static class AlreadyAnnotatedService {}
+
+	@Service
+	static class UnannotatedService {}
+}
@@ -16,17 +16,55 @@
 package org.jmolecules.bytebuddy;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.dynamic.ClassFileLocator;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Answers whether types are available in the classpath backing a {@link ClassFileLocator}. Results are cached, so
+ * that instances should be shared for all lookups against the same locator.
+ *
+ * @author Oliver Drotbohm
+ */
+@Slf4j
 @RequiredArgsConstructor(staticName = "of")
 class ClassWorld {
 
 	private final ClassFileLocator locator;
+	private final Map<String, Boolean> availability = new ConcurrentHashMap<>();
+	private final AtomicInteger lookups = new AtomicInteger();
+	private final AtomicInteger cacheHits = new AtomicInteger();
 
 	boolean isAvailable(String name) {
 
+		lookups.incrementAndGet();
+
+		Boolean cached = availability.get(name);
+
+		if (cached != null) {
+
+			cacheHits.incrementAndGet();
+			return cached;
+		}
+
+		return availability.computeIfAbsent(name, this::locate);
+	}
+
+	/**
+	 * Logs how many lookups were performed and how many of them were answered from the cache.
+	 */
+	void logStatistics() {
+
+		log.debug("jMolecules - Performed {} type availability lookups ({} distinct types), {} served from cache.",
+				lookups.get(), availability.size(), cacheHits.get());
+	}
+
+	private boolean locate(String name) {
+
 		try {
 			return locator.locate(name).isResolved();
 		} catch (IOException o_O) {
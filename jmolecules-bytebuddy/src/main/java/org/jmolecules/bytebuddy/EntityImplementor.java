@@ -16,24 +16,82 @@
 package org.jmolecules.bytebuddy;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.jmolecules.bytebuddy.PluginUtils.*;
 
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.asm.Advice.Argument;
+import net.bytebuddy.asm.Advice.Enter;
+import net.bytebuddy.asm.Advice.FieldValue;
+import net.bytebuddy.asm.Advice.OnMethodEnter;
+import net.bytebuddy.asm.Advice.OnMethodExit;
+import net.bytebuddy.asm.Advice.OnNonDefaultValue;
+import net.bytebuddy.asm.Advice.Return;
+import net.bytebuddy.asm.Advice.This;
 import net.bytebuddy.description.field.FieldDescription.InDefinedShape;
+import net.bytebuddy.description.modifier.FieldPersistence;
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.implementation.EqualsMethod;
-import net.bytebuddy.implementation.HashCodeMethod;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.implementation.bytecode.constant.MethodConstant;
 import net.bytebuddy.matcher.ElementMatcher;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 
 /**
- * Adds {@link Object#equals(Object)} and {@link Object#hashCode()} methods to the given entity type.
+ * Adds {@link Object#equals(Object)} and {@link Object#hashCode()} methods to the given entity type. The generated
+ * {@code equals(…)} checks for identity first, considers entities without an identifier to be equal only to themselves
+ * and falls back to comparing the identifier field for instances of the same type. {@code hashCode()} caches the hash
+ * code of the identifier in a transient field once it has been assigned.
  *
  * @author Oliver Drotbohm
  * @since 0.26
  */
 class EntityImplementor {
 
+	static final String HASH_CODE_FIELD = "__jMolecules__hashCode";
+
+	private final Class<? extends Annotation> transientAnnotation;
+	private final boolean hibernateProxyAware;
+
+	/**
+	 * Creates a new {@link EntityImplementor} using the given annotation to mark the generated hash code cache field as
+	 * transient.
+	 *
+	 * @param transientAnnotation must not be {@literal null}.
+	 */
+	EntityImplementor(Class<? extends Annotation> transientAnnotation) {
+		this(transientAnnotation, false);
+	}
+
+	/**
+	 * Creates a new {@link EntityImplementor} using the given annotation to mark the generated hash code cache field as
+	 * transient.
+	 *
+	 * @param transientAnnotation must not be {@literal null}.
+	 * @param hibernateProxyAware whether the generated {@code equals(…)} method has to be able to deal with Hibernate
+	 *          proxies handed into it.
+	 */
+	EntityImplementor(Class<? extends Annotation> transientAnnotation, boolean hibernateProxyAware) {
+
+		if (transientAnnotation == null) {
+			throw new IllegalArgumentException("Transient annotation must not be null!");
+		}
+
+		this.transientAnnotation = transientAnnotation;
+		this.hibernateProxyAware = hibernateProxyAware;
+	}
+
 	/**
 	 * Adds {@link Object#equals(Object)} and {@link Object#hashCode()} methods to the given entity type.
 	 *
@@ -51,28 +109,161 @@ class EntityImplementor {
 							.equals(field.getName());
 
 					return type
-							.mapBuilder(it -> !it.hasMethod(isEquals()), it -> generateEquals(it, isIdField, log))
-							.mapBuilder(it -> !it.hasMethod(isHashCode()), it -> generateHashCode(it, isIdField, log));
+							.mapBuilder(it -> !it.hasMethod(isEquals()), it -> generateEquals(it, field, isIdField, log))
+							.mapBuilder(it -> !it.hasMethod(isHashCode()), it -> generateHashCode(it, field, log));
 
 				}).orElse(type);
 	}
 
-	private static Builder<?> generateEquals(Builder<?> builder, ElementMatcher<? super InDefinedShape> idField,
-			Log log) {
+	private Builder<?> generateEquals(Builder<?> builder, InDefinedShape field,
+			ElementMatcher<? super InDefinedShape> idField, Log log) {
 
 		log.info("Implementing equals(…) based on identifier.");
 
-		return PluginUtils.markGenerated(builder.defineMethod("equals", boolean.class, Visibility.PUBLIC)
+		Advice.WithCustomMapping mapping = Advice.withCustomMapping()
+				.bind(IdentifierValue.class, field);
+
+		if (hibernateProxyAware) {
+
+			// Looked up once per entity type and cached in a static field of it
+			mapping = mapping.bind(IdentifierGetter.class,
+					MethodConstant.of(new MethodDescription.ForLoadedMethod(getIdentifierMethod())).cached(), Method.class);
+		}
+
+		Class<?> advice = hibernateProxyAware ? ProxyAwareIdentifierEquals.class : IdentifierEquals.class;
+
+		return markGenerated(builder.defineMethod("equals", boolean.class, Visibility.PUBLIC)
 				.withParameter(Object.class)
-				.intercept(EqualsMethod.isolated().withIgnoredFields(idField)));
+				.intercept(mapping
+						.to(advice)
+						.wrap(EqualsMethod.isolated().withIgnoredFields(idField))));
 	}
 
-	private static Builder<?> generateHashCode(Builder<?> builder, ElementMatcher<? super InDefinedShape> idField,
-			Log log) {
+	private Builder<?> generateHashCode(Builder<?> builder, InDefinedShape field, Log log) {
 
 		log.info("Implementing hashCode() based on identifier.");
 
-		return builder.defineMethod("hashCode", int.class, Visibility.PUBLIC)
-				.intercept(HashCodeMethod.usingDefaultOffset().withIgnoredFields(idField));
+		return builder.defineField(HASH_CODE_FIELD, int.class, Visibility.PRIVATE, FieldPersistence.TRANSIENT)
+				.annotateField(getAnnotation(transientAnnotation))
+				.defineMethod("hashCode", int.class, Visibility.PUBLIC)
+				.intercept(Advice.withCustomMapping()
+						.bind(IdentifierValue.class, field)
+						.to(CachingIdentifierHashCode.class)
+						.wrap(StubMethod.INSTANCE));
+	}
+
+	/**
+	 * Binds the value of the identifier field of the entity to the annotated advice parameter.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.PARAMETER)
+	@interface IdentifierValue {}
+
+	/**
+	 * Binds the {@link Method} to obtain the identifier from a {@link LazyInitializer} to the annotated advice parameter.
+	 * It is invoked reflectively as its return type differs between Hibernate 5 and 6.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.PARAMETER)
+	@interface IdentifierGetter {}
+
+	private static Method getIdentifierMethod() {
+
+		try {
+			return LazyInitializer.class.getMethod("getIdentifier");
+		} catch (NoSuchMethodException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	public static class IdentifierEquals {
+
+		static final int PROCEED = 0, EQUAL = 1, NOT_EQUAL = 2;
+
+		@OnMethodEnter(skipOn = OnNonDefaultValue.class)
+		public static int shortcut(@This Object self, @Argument(0) Object other, @IdentifierValue Object id) {
+
+			if (self == other) {
+				return EQUAL;
+			}
+
+			// Transient entities are only equal to themselves
+			return id == null || other == null ? NOT_EQUAL : PROCEED;
+		}
+
+		@OnMethodExit
+		public static void applyShortcut(@Enter int shortcut, @Return(readOnly = false) boolean result) {
+
+			if (shortcut != PROCEED) {
+				result = shortcut == EQUAL;
+			}
+		}
+	}
+
+	public static class ProxyAwareIdentifierEquals {
+
+		@OnMethodEnter(skipOn = OnNonDefaultValue.class)
+		public static int shortcut(@This Object self, @Argument(0) Object other, @IdentifierValue Object id,
+				@IdentifierGetter Method getIdentifier) {
+
+			if (self == other) {
+				return IdentifierEquals.EQUAL;
+			}
+
+			if (id == null || other == null) {
+				return IdentifierEquals.NOT_EQUAL;
+			}
+
+			if (other instanceof HibernateProxy) {
+
+				// Compare persistent class and identifier without initializing the proxy
+				LazyInitializer initializer = ((HibernateProxy) other).getHibernateLazyInitializer();
+				Class<?> persistentClass = initializer.getPersistentClass();
+
+				// Same type rule as for unproxied instances to keep equals(…) symmetric
+				if (persistentClass != self.getClass()) {
+					return IdentifierEquals.NOT_EQUAL;
+				}
+
+				Object identifier;
+
+				try {
+					identifier = getIdentifier.invoke(initializer);
+				} catch (ReflectiveOperationException o_O) {
+					throw new IllegalStateException(o_O);
+				}
+
+				return id.equals(identifier) ? IdentifierEquals.EQUAL : IdentifierEquals.NOT_EQUAL;
+			}
+
+			return IdentifierEquals.PROCEED;
+		}
+
+		@OnMethodExit
+		public static void applyShortcut(@Enter int shortcut, @Return(readOnly = false) boolean result) {
+
+			if (shortcut != IdentifierEquals.PROCEED) {
+				result = shortcut == IdentifierEquals.EQUAL;
+			}
+		}
+	}
+
+	public static class CachingIdentifierHashCode {
+
+		@OnMethodExit
+		public static void hashCode(@This Object self, @IdentifierValue Object id,
+				@FieldValue(value = HASH_CODE_FIELD, readOnly = false) int cached, @Return(readOnly = false) int result) {
+
+			if (id == null) {
+				result = System.identityHashCode(self);
+				return;
+			}
+
+			if (cached == 0) {
+				cached = id.hashCode();
+			}
+
+			result = cached;
+		}
 	}
 }
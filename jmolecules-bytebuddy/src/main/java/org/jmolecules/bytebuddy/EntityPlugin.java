@@ -15,58 +15,60 @@
  */
 package org.jmolecules.bytebuddy;
 
-import static net.bytebuddy.matcher.ElementMatchers.*;
-
 import net.bytebuddy.description.type.TypeDescription;
-import net.bytebuddy.description.type.TypeDescription.Generic;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 
-import java.util.stream.Stream;
+import java.util.Properties;
 
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
+import org.springframework.data.annotation.Transient;
 
 /**
  * @author Oliver Drotbohm
  */
 class EntityPlugin implements LoggingPlugin {
 
-	private static final EntityImplementor ENTITY_IMPLEMENTOR = new EntityImplementor();
+	private static final EntityImplementor ENTITY_IMPLEMENTOR = new EntityImplementor(Transient.class);
 
 	private final String moduleName;
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
 
 	/**
 	 * @param moduleName
 	 */
 	public EntityPlugin(String moduleName) {
-		this.moduleName = moduleName;
+		this(moduleName, new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see net.bytebuddy.matcher.ElementMatcher#matches(java.lang.Object)
+	/**
+	 * @param moduleName
+	 * @param classifications must not be {@literal null}.
 	 */
-	@Override
-	public boolean matches(TypeDescription target) {
+	EntityPlugin(String moduleName, JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
 
-		if (target.isAnnotation() || PluginUtils.isCglibProxyType(target)) {
-			return false;
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
 		}
 
-		boolean implementsJMoleculesInterface = !target.getInterfaces().filter(nameStartsWith("org.jmolecules")).isEmpty();
-
-		boolean hasJMoleculesAnnotation = Stream
-				.concat(target.getDeclaredAnnotations().stream(), target.getInheritedAnnotations().stream())
-				.anyMatch(it -> it.getAnnotationType().getName().startsWith("org.jmolecules"));
-
-		if (implementsJMoleculesInterface || hasJMoleculesAnnotation) {
-			return true;
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
 		}
 
-		Generic superType = target.getSuperClass();
+		this.moduleName = moduleName;
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
+	}
 
-		return superType == null || superType.represents(Object.class) ? false
-				: matches(superType.asErasure()) || target.isRecord();
+	/*
+	 * (non-Javadoc)
+	 * @see net.bytebuddy.matcher.ElementMatcher#matches(java.lang.Object)
+	 */
+	@Override
+	public boolean matches(TypeDescription target) {
+		return classifications.classify(target).isJMoleculesType();
 	}
 
 	/*
@@ -76,7 +78,7 @@ class EntityPlugin implements LoggingPlugin {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription type, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(type, moduleName);
+		Log log = PluginLogger.INSTANCE.getLog(type, moduleName, logging);
 
 		return JMoleculesTypeBuilder.of(log, builder)
 				.map(JMoleculesTypeBuilder::isEntity, this::handleEntity)
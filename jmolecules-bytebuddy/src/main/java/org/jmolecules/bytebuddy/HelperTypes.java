@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the helper types (e.g. attribute converters) generated by a plugin during a build, so that a helper
+ * type shared by many types is only generated once. The first type requiring a particular helper type becomes its
+ * owner and is the only one the helper type is attached to. All other types only refer to it. Requiring the same
+ * helper type for the same type multiple times, e.g. from a dry-run of the plugin, consistently attaches it to the
+ * owner without generating it again.
+ * <p>
+ * Helper types are generated into the package of the type requiring them, so that no types are added to packages of
+ * other modules. Their names carry a scope derived from the build output they are generated into (e.g.
+ * {@code OrderAssociationConverter$jMolecules$1a2b3c4d}), so that helper types generated for the same package by
+ * different modules or for both main and test sources do not clash on the runtime classpath.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+class HelperTypes {
+
+	private final Map<String, String> owners = new ConcurrentHashMap<>();
+	private final Map<String, DynamicType> types = new ConcurrentHashMap<>();
+	private final String scope;
+
+	/**
+	 * Creates a new {@link HelperTypes} generating unscoped helper type names.
+	 */
+	HelperTypes() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link HelperTypes} for the given scope.
+	 *
+	 * @param scope can be {@literal null}.
+	 */
+	HelperTypes(String scope) {
+		this.scope = scope;
+	}
+
+	/**
+	 * Creates a new {@link HelperTypes} scoped to the given output folder. The scope is derived from the path of the
+	 * output folder relative to the parent of the closest folder containing a build file, so that it is stable across
+	 * machines but differs between modules and between main and test output.
+	 *
+	 * @param outputFolder must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static HelperTypes forOutputFolder(File outputFolder) {
+
+		if (outputFolder == null) {
+			throw new IllegalArgumentException("Output folder must not be null!");
+		}
+
+		Path output = outputFolder.getAbsoluteFile().toPath().normalize();
+		Path module = output.getParent();
+
+		while (module != null && !JMoleculesPlugin.hasBuildFile(module)) {
+			module = module.getParent();
+		}
+
+		Path base = module == null || module.getParent() == null ? output.getParent() : module.getParent();
+		String path = (base == null ? output : base.relativize(output)).toString().replace(File.separatorChar, '/');
+
+		return new HelperTypes(PluginUtils.sha256(path.getBytes(StandardCharsets.UTF_8)).substring(0, 8));
+	}
+
+	/**
+	 * Returns the {@link NamingStrategy} to generate a helper type named after the given reference type into the package
+	 * of the given requesting type.
+	 *
+	 * @param requester the type requiring the helper type, must not be {@literal null}.
+	 * @param reference the type the helper type is generated for, must not be {@literal null}.
+	 * @param suffix the suffix to append to the simple name of the reference type, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	NamingStrategy getNamingStrategy(TypeDescription requester, TypeDescription reference, String suffix) {
+		return new ReferenceTypePackageNamingStrategy(requester, reference, suffix, scope);
+	}
+
+	/**
+	 * Registers the helper type described by the given {@link Builder} as required by the type to be built by the
+	 * given {@link Builder} and attaches it to the latter if it is its owner.
+	 *
+	 * @param builder the {@link Builder} of the type requiring the helper type, must not be {@literal null}.
+	 * @param helper the {@link Builder} of the helper type, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Builder<?> require(Builder<?> builder, Builder<?> helper) {
+
+		if (builder == null) {
+			throw new IllegalArgumentException("Builder must not be null!");
+		}
+
+		if (helper == null) {
+			throw new IllegalArgumentException("Helper type builder must not be null!");
+		}
+
+		String requester = builder.toTypeDescription().getName();
+		String name = helper.toTypeDescription().getName();
+		String owner = owners.putIfAbsent(name, requester);
+
+		return owner == null || owner.equals(requester)
+				? builder.require(types.computeIfAbsent(name, __ -> helper.make()))
+				: builder;
+	}
+
+	int size() {
+		return owners.size();
+	}
+}
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.Set;
 
 import org.axonframework.eventsourcing.EventSourcingHandler;
@@ -35,6 +36,7 @@ import org.axonframework.modelling.command.AggregateIdentifier;
 import org.jmolecules.architecture.cqrs.Command;
 import org.jmolecules.architecture.cqrs.CommandHandler;
 import org.jmolecules.architecture.cqrs.QueryModel;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.ddd.annotation.AggregateRoot;
 import org.jmolecules.ddd.annotation.Association;
 import org.jmolecules.ddd.annotation.Identity;
@@ -100,6 +102,32 @@ public class JMoleculesAxonPlugin implements LoggingPlugin {
 		FIELD_ANNOTATIONS.put(org.axonframework.modelling.command.TargetAggregateIdentifier.class, Association.class);
 	}
 
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
+
+	public JMoleculesAxonPlugin() {
+		this(new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesAxonPlugin} using the given {@link TypeClassification.Cache}.
+	 *
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesAxonPlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.bytebuddy.build.Plugin#apply(net.bytebuddy.dynamic.DynamicType.Builder, net.bytebuddy.description.type.TypeDescription, net.bytebuddy.dynamic.ClassFileLocator)
@@ -108,7 +136,7 @@ public class JMoleculesAxonPlugin implements LoggingPlugin {
 	public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription type,
 			ClassFileLocator classFileLocator) {
 
-		PluginLogger.Log log = PluginLogger.INSTANCE.getLog(type, "Axon");
+		PluginLogger.Log log = PluginLogger.INSTANCE.getLog(type, "Axon", logging);
 
 		builder = mapAnnotationOrInterfaces(builder, type, MAPPINGS, log);
 
@@ -164,7 +192,8 @@ public class JMoleculesAxonPlugin implements LoggingPlugin {
 			return false;
 		}
 
-		return TRIGGERS.stream().anyMatch(
-				it -> it.isAnnotation() ? isAnnotatedWith(target, it) : target.isAssignableTo(it));
+		TypeClassification classification = classifications.classify(target);
+
+		return TRIGGERS.stream().anyMatch(classification::isAnnotatedWithOrAssignableTo);
 	}
 }
@@ -3,22 +3,41 @@ package org.jmolecules.bytebuddy;
 import static org.jmolecules.bytebuddy.JMoleculesElementMatchers.*;
 import static org.jmolecules.bytebuddy.PluginUtils.*;
 
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.implementation.MethodCall;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
+import org.axonframework.eventsourcing.EventCountSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.spring.stereotype.Aggregate;
+
 import org.jmolecules.architecture.cqrs.QueryModel;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.annotation.AggregateRoot;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
- * Plugin enriching classes for usage of Axon Framework with Spring.
+ * Plugin enriching classes for usage of Axon Framework with Spring. If a snapshot threshold is configured for an
+ * aggregate (see {@link JMoleculesConfiguration#getAxonSnapshotThreshold(TypeDescription)}), the {@link Aggregate}
+ * annotation added refers to a {@link EventCountSnapshotTriggerDefinition} declared in a generated configuration class
+ * located in the aggregate's package.
  *
  * @author Simon Zambrovski
  * @author Oliver Drotbohm
@@ -31,7 +50,7 @@ public class JMoleculesAxonSpringPlugin implements LoggingPlugin {
 	static {
 
 		// jMolecules -> Axon
-		MAPPINGS.put(AggregateRoot.class, org.axonframework.spring.stereotype.Aggregate.class);
+		MAPPINGS.put(AggregateRoot.class, Aggregate.class);
 
 		PluginUtils.ifAnnotationTypePresent("org.springframework.stereotype.Component", it -> {
 			MAPPINGS.put(QueryModel.class, it);
@@ -39,7 +58,7 @@ public class JMoleculesAxonSpringPlugin implements LoggingPlugin {
 		});
 
 		// Axon -> jMolecules
-		MAPPINGS.put(org.axonframework.spring.stereotype.Aggregate.class, AggregateRoot.class);
+		MAPPINGS.put(Aggregate.class, AggregateRoot.class);
 
 		/*
 		 * Which annotations trigger the processing?
@@ -49,6 +68,36 @@ public class JMoleculesAxonSpringPlugin implements LoggingPlugin {
 		TRIGGERS.add(org.jmolecules.architecture.cqrs.annotation.QueryModel.class);
 	}
 
+	private final JMoleculesConfiguration configuration;
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
+
+	public JMoleculesAxonSpringPlugin() {
+		this(new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesAxonSpringPlugin} using the given {@link JMoleculesConfiguration} and
+	 * {@link TypeClassification.Cache}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesAxonSpringPlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		this.configuration = configuration;
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.bytebuddy.build.Plugin#apply(net.bytebuddy.dynamic.DynamicType.Builder, net.bytebuddy.description.type.TypeDescription, net.bytebuddy.dynamic.ClassFileLocator)
@@ -57,7 +106,9 @@ public class JMoleculesAxonSpringPlugin implements LoggingPlugin {
 	public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription type,
 			ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(type, "Axon + Spring");
+		Log log = PluginLogger.INSTANCE.getLog(type, "Axon + Spring", logging);
+
+		builder = configureSnapshotting(builder, type, log);
 
 		return mapAnnotationOrInterfaces(builder, type, MAPPINGS, log);
 	}
@@ -73,7 +124,59 @@ public class JMoleculesAxonSpringPlugin implements LoggingPlugin {
 			return false;
 		}
 
-		return TRIGGERS.stream().anyMatch(
-				it -> it.isAnnotation() ? isAnnotatedWith(target, it) : target.isAssignableTo(it));
+		TypeClassification classification = classifications.classify(target);
+
+		return TRIGGERS.stream().anyMatch(classification::isAnnotatedWithOrAssignableTo);
+	}
+
+	private Builder<?> configureSnapshotting(Builder<?> builder, TypeDescription type, Log log) {
+
+		if (!isAnnotatedWith(type, AggregateRoot.class) || isAnnotatedWith(type, Aggregate.class)) {
+			return builder;
+		}
+
+		return configuration.getAxonSnapshotThreshold(type).<Builder<?>> map(threshold -> {
+
+			String beanName = type.getName() + "SnapshotTriggerDefinition";
+			Builder<?> snapshotConfiguration = createSnapshotConfiguration(type, beanName, threshold, log);
+
+			log.info("Adding @{}(snapshotTriggerDefinition = \"{}\") taking snapshots every {} events.",
+					PluginUtils.abbreviate(Aggregate.class), beanName, threshold);
+
+			return builder
+					.annotateType(AnnotationDescription.Builder.ofType(Aggregate.class)
+							.define("snapshotTriggerDefinition", beanName)
+							.build())
+					.require(snapshotConfiguration.make());
+
+		}).orElse(builder);
+	}
+
+	private static Builder<?> createSnapshotConfiguration(TypeDescription type, String beanName, int threshold,
+			Log log) {
+
+		Builder<?> builder = new ByteBuddy(ClassFileVersion.JAVA_V8)
+				.with(new ReferenceTypePackageNamingStrategy(type, "SnapshotConfiguration"))
+				.subclass(Object.class)
+				.annotateType(AnnotationDescription.Builder.ofType(Configuration.class)
+						.define("proxyBeanMethods", false)
+						.build());
+
+		return PluginUtils.markGenerated(builder, log)
+				.defineMethod("snapshotTriggerDefinition", SnapshotTriggerDefinition.class, Visibility.PUBLIC)
+				.withParameters(Snapshotter.class)
+				.intercept(MethodCall.construct(getSnapshotTriggerDefinitionConstructor()).withArgument(0).with(threshold))
+				.annotateMethod(AnnotationDescription.Builder.ofType(Bean.class)
+						.defineArray("name", beanName)
+						.build());
+	}
+
+	private static Constructor<?> getSnapshotTriggerDefinitionConstructor() {
+
+		try {
+			return EventCountSnapshotTriggerDefinition.class.getConstructor(Snapshotter.class, int.class);
+		} catch (NoSuchMethodException o_O) {
+			throw new IllegalStateException(o_O);
+		}
 	}
 }
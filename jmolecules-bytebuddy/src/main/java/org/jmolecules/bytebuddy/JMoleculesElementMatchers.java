@@ -111,7 +111,7 @@ class JMoleculesElementMatchers {
 				return false;
 			}
 
-			log.info("Adding @{} to {}.", abbreviate(target), abbreviate(method));
+			log.detail("Adding @{} to {}.", abbreviate(target), abbreviate(method));
 
 			return true;
 		};
@@ -153,7 +153,7 @@ class JMoleculesElementMatchers {
 				return false;
 			}
 
-			log.info("Adding @{} to {}.", abbreviate(target), signature);
+			log.detail("Adding @{} to {}.", abbreviate(target), signature);
 
 			return true;
 		};
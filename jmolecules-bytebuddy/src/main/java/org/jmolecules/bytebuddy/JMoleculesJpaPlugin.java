@@ -26,6 +26,8 @@ import net.bytebuddy.build.Plugin.WithPreprocessor;
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldDescription.InDefinedShape;
+import net.bytebuddy.description.field.FieldList;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeDescription.ForLoadedType;
@@ -38,43 +40,89 @@ import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.hibernate.Version;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
+import org.jmolecules.ddd.annotation.Identity;
+import org.jmolecules.ddd.types.Identifier;
 import org.jmolecules.jpa.JMoleculesJpa;
 
 @NoArgsConstructor
 public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 
 	static final String NULLABILITY_METHOD_NAME = "__verifyNullability";
-	private static final Set<TypeDescription> EMBEDDABLE_RECORDS = new HashSet<>();
-	private static final EntityImplementor ENTITY_IMPLEMENTOR = new EntityImplementor();
+	static final int DEFAULT_BATCH_SIZE = 16;
 
-	private Jpa jpa;
+	private volatile Jpa jpa;
+	private JMoleculesConfiguration configuration = new JMoleculesConfiguration(new Properties());
 	private Class<? extends Annotation> embeddableInstantiatorAnnotationType;
+	private EntityImplementor entityImplementor;
+	private boolean convertIdentifiers;
+	private TypeClassification.Cache classifications = new TypeClassification.Cache();
+	private HelperTypes converters = new HelperTypes();
+	private Set<TypeDescription> embeddableRecords = ConcurrentHashMap.newKeySet();
+	private PluginLogger.Settings logging = PluginLogger.Settings.DEFAULT;
 
 	public JMoleculesJpaPlugin(Jpa jpa, ClassWorld world) {
 		init(jpa, world);
 	}
 
-	private void init(Jpa jpa, ClassWorld world) {
+	/**
+	 * Creates a new {@link JMoleculesJpaPlugin} sharing the given state with the other plugin instances created for the
+	 * same build, e.g. for different {@link ClassFileLocator}s.
+	 *
+	 * @param jpa must not be {@literal null}.
+	 * @param world must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 * @param converters must not be {@literal null}.
+	 * @param embeddableRecords the records used as fields of entities, must not be {@literal null}.
+	 */
+	JMoleculesJpaPlugin(Jpa jpa, ClassWorld world, JMoleculesConfiguration configuration,
+			TypeClassification.Cache classifications, HelperTypes converters, Set<TypeDescription> embeddableRecords) {
+
+		this.configuration = configuration;
+		this.classifications = classifications;
+		this.converters = converters;
+		this.embeddableRecords = embeddableRecords;
+		this.logging = configuration.getLogSettings();
+
+		init(jpa, world);
+	}
+
+	private synchronized void init(Jpa jpa, ClassWorld world) {
 
 		if (this.jpa != null) {
 			return;
 		}
 
 		this.jpa = jpa;
+		this.entityImplementor = new EntityImplementor(jpa.getAnnotation("Transient"), jpa.isHibernate());
+		this.convertIdentifiers = configuration.supportsIdentifierConverters()
+				&& world.isAvailable("org.jmolecules.spring.jpa.IdentifierAttributeConverter");
+
+		// Converters on identifier fields are only honored by Hibernate 6 or later
+		if (convertIdentifiers && !(jpa.isHibernate() && isHibernate6OrLater())) {
+			throw new IllegalStateException(
+					"bytebuddy.jpa.identifier-converters=true requires Hibernate 6 or later as JPA provider! Remove the setting to map identifiers as embeddables.");
+		}
 
 		if (world.isAvailable("org.hibernate.annotations.EmbeddableInstantiator")) {
 			if (Version.getVersionString().startsWith("6")) {
@@ -90,12 +138,14 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 	@Override
 	public void onPreprocess(TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		ClassWorld world = ClassWorld.of(classFileLocator);
-		init(Jpa.getJavaPersistence(world).get(), world);
+		// Only needed if not set up by JMoleculesPlugin
+		if (jpa == null) {
 
-		JMoleculesType type = new JMoleculesType(typeDescription);
+			ClassWorld world = ClassWorld.of(classFileLocator);
+			init(Jpa.getJavaPersistence(world).get(), world);
+		}
 
-		if (!type.isEntity()) {
+		if (!classifications.classify(typeDescription).isEntity()) {
 			return;
 		}
 
@@ -103,7 +153,8 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 				.map(it -> it.getType())
 				.filter(Generic::isRecord)
 				.map(Generic::asErasure)
-				.forEach(EMBEDDABLE_RECORDS::add);
+				.filter(it -> !isConvertedIdentifier(it))
+				.forEach(embeddableRecords::add);
 	}
 
 	/*
@@ -112,26 +163,7 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 	 */
 	@Override
 	public boolean matches(TypeDescription target) {
-
-		if (target.isAnnotation() || PluginUtils.isCglibProxyType(target)) {
-			return false;
-		}
-
-		boolean implementsJMoleculesInterface = !target.getInterfaces().filter(nameStartsWith("org.jmolecules")).isEmpty();
-
-		boolean hasJMoleculesAnnotation = Stream
-				.concat(target.getDeclaredAnnotations().stream(), target.getInheritedAnnotations().stream())
-				.anyMatch(it -> it.getAnnotationType().getName().startsWith("org.jmolecules"));
-
-		if (implementsJMoleculesInterface || hasJMoleculesAnnotation) {
-			return true;
-		}
-
-		Generic superType = target.getSuperClass();
-
-		return superType == null || superType.represents(Object.class) ? false :
-
-				matches(superType.asErasure()) || target.isRecord();
+		return classifications.classify(target).isJMoleculesType();
 	}
 
 	/*
@@ -141,14 +173,14 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription type, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(type, "JPA");
+		Log log = PluginLogger.INSTANCE.getLog(type, "JPA", logging);
 
 		return JMoleculesTypeBuilder.of(log, builder)
 				.map(JMoleculesTypeBuilder::isEntity, this::handleEntity)
 				.map(JMoleculesTypeBuilder::isAssociation, this::handleAssociation)
 				.map(JMoleculesTypeBuilder::isIdentifier, this::handleIdentifier)
 				.map(JMoleculesTypeBuilder::isValueObject, this::handleValueObject)
-				.map(it -> EMBEDDABLE_RECORDS.contains(it.getTypeDescription()),
+				.map(it -> embeddableRecords.contains(it.getTypeDescription()),
 						it -> it.annotateTypeIfMissing(jpa.getAnnotation("Embeddable")))
 				.mapBuilder(this::applyRecordInstantiator)
 				.conclude();
@@ -163,7 +195,10 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 	}
 
 	private JMoleculesTypeBuilder handleIdentifier(JMoleculesTypeBuilder type) {
-		return handleValueObject(type.implement(Serializable.class));
+
+		JMoleculesTypeBuilder result = type.implement(Serializable.class);
+
+		return isConvertedIdentifier(type.getTypeDescription()) ? result : handleValueObject(result);
 	}
 
 	private JMoleculesTypeBuilder handleAssociation(JMoleculesTypeBuilder type) {
@@ -181,15 +216,143 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 		Class<Annotation> id = jpa.getAnnotation("Id");
 
 		return type.addDefaultConstructorIfMissing()
-				.annotateTypedIdentifierWith(embeddedId, id)
+				.map(this::annotateTypedIdentifier)
 				.annotateAnnotatedIdentifierWith(id, embeddedId)
+				.mapBuilder(this::convertIdentifiers)
 				.annotateTypeIfMissing(selector, jpa.getAnnotation("Entity"), jpa.getAnnotation("MappedSuperclass"))
-				.map(ENTITY_IMPLEMENTOR::implementEntity)
+				.map(entityImplementor::implementEntity)
 				.map(this::defaultToEntityAssociations)
 				.map(this::defaultCollectionOfValueObjects)
 				.mapBuilder(this::declareNullVerificationMethod);
 	}
 
+	private JMoleculesTypeBuilder annotateTypedIdentifier(JMoleculesTypeBuilder type) {
+
+		Class<Annotation> embeddedId = jpa.getAnnotation("EmbeddedId");
+		Class<Annotation> id = jpa.getAnnotation("Id");
+
+		// Identifiers mapped via a converter are basic types and thus need @Id instead of @EmbeddedId
+		return type.findIdField()
+				.filter(it -> isConvertedIdentifier(it.getType().asErasure()))
+				.map(it -> type.annotateFieldWith(id,
+						ElementMatchers.<FieldDescription> named(it.getName()).and(not(isAnnotatedWith(Identity.class))),
+						embeddedId))
+				.orElseGet(() -> type.annotateTypedIdentifierWith(embeddedId, id));
+	}
+
+	/**
+	 * Registers a dedicated {@code AttributeConverter} for all fields of the given type that are of a single-value
+	 * {@link Identifier} type, so that those are mapped as basic type rather than as embeddable, in case the
+	 * corresponding mode is enabled. A single converter is generated per identifier type and shared by all types using
+	 * it.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param log must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Builder<?> convertIdentifiers(Builder<?> builder, Log log) {
+
+		if (!convertIdentifiers) {
+			return builder;
+		}
+
+		Class<Annotation> convert = jpa.getAnnotation("Convert");
+		Map<TypeDescription, TypeDescription> required = new HashMap<>();
+
+		for (InDefinedShape field : builder.toTypeDescription().getDeclaredFields()) {
+
+			TypeDescription fieldType = field.getType().asErasure();
+
+			if (field.isStatic() || field.isTransient() || !isConvertedIdentifier(fieldType)) {
+				continue;
+			}
+
+			if (field.getDeclaredAnnotations().isAnnotationPresent(convert)) {
+
+				log.detail("Found existing converter registration for field {}.", field.getName());
+
+				continue;
+			}
+
+			TypeDescription converterType = required.get(fieldType);
+
+			if (converterType == null) {
+
+				Builder<?> converter = createIdentifierConverter(builder.toTypeDescription(), fieldType, log);
+
+				builder = converters.require(builder, converter);
+				converterType = converter.toTypeDescription();
+				required.put(fieldType, converterType);
+			}
+
+			log.detail("{} - Adding @j.p.Convert(converter={}).", field.getName(), PluginUtils.abbreviate(converterType));
+
+			builder = builder.field(is(field))
+					.annotateField(AnnotationDescription.Builder.ofType(convert)
+							.define("converter", converterType)
+							.build());
+		}
+
+		return builder;
+	}
+
+	private Builder<?> createIdentifierConverter(TypeDescription requester, TypeDescription identifierType, Log log) {
+
+		ForLoadedType baseType = new ForLoadedType(jpa.getIdentifierAttributeConverterBaseType());
+		Generic superType = Generic.Builder.parameterizedType(baseType, identifierType,
+				getIdentifierValueType(identifierType)).build();
+
+		Builder<?> converterBuilder = new ByteBuddy(ClassFileVersion.JAVA_V8)
+				.with(converters.getNamingStrategy(requester, identifierType, "IdentifierConverter"))
+				.subclass(superType)
+				.annotateType(PluginUtils.getAnnotation(jpa.getAnnotation("Converter")));
+
+		return PluginUtils.markGenerated(converterBuilder, log)
+				.defineConstructor(Visibility.PACKAGE_PRIVATE)
+				.intercept(MethodCall.invoke(getConstructor(jpa.getIdentifierAttributeConverterBaseType(), Class.class))
+						.onSuper()
+						.with(identifierType));
+	}
+
+	/**
+	 * Returns whether the given type is a single-value {@link Identifier} that is supposed to be mapped using a dedicated
+	 * {@code AttributeConverter}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return whether the given type is a single-value {@link Identifier} to be mapped using a converter.
+	 */
+	private boolean isConvertedIdentifier(TypeDescription type) {
+
+		return convertIdentifiers
+				&& type.isAssignableTo(Identifier.class)
+				&& getIdentifierValueType(type) != null;
+	}
+
+	/**
+	 * Returns the type of the single value held by the given identifier type or {@literal null} if the type declares no
+	 * or more than one field.
+	 *
+	 * @param type can be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	private static TypeDescription getIdentifierValueType(TypeDescription type) {
+
+		if (type == null || type.represents(Object.class)) {
+			return null;
+		}
+
+		FieldList<InDefinedShape> fields = type.getDeclaredFields().filter(not(isStatic()));
+
+		if (fields.isEmpty()) {
+
+			Generic superClass = type.getSuperClass();
+
+			return superClass == null ? null : getIdentifierValueType(superClass.asErasure());
+		}
+
+		return fields.size() == 1 ? fields.getOnly().getType().asErasure().asBoxed() : null;
+	}
+
 	private JMoleculesTypeBuilder defaultToEntityAssociations(JMoleculesTypeBuilder type) {
 
 		Junction<FieldDescription> doesNotHaveAtJoinColumn = not(isAnnotatedWith(jpa.getAnnotation("JoinColumn")));
@@ -202,9 +365,12 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 		Junction<FieldDescription> isUndefaultCollectionOfEntities = isCollectionOfEntities
 				.and(doesNotHaveRelationShipAnnotation);
 
-		boolean mapEager = !type.hasMoreThanOneField(isCollectionOfEntities);
+		boolean enhanced = usesHibernateEnhancement(type);
+		boolean mapEager = configuration.getCollectionsFetchType()
+				.map("eager"::equals)
+				.orElseGet(() -> !enhanced && !type.hasMoreThanOneField(isCollectionOfEntities));
 
-		AnnotationDescription oneToOneDescription = createRelationshipAnnotation(jpa.getAnnotation("OneToOne"), true);
+		AnnotationDescription oneToOneDescription = createRelationshipAnnotation(jpa.getAnnotation("OneToOne"), !enhanced);
 		AnnotationDescription oneToManyDescription = createRelationshipAnnotation(jpa.getAnnotation("OneToMany"), mapEager);
 
 		AnnotationDescription joinColumnAnnotation = getJoinColumnAnnotation();
@@ -221,22 +387,104 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 				// Default @JoinColumn if no relationship annotation and no @JoinColumn found
 				.annotateFieldWith(joinColumnAnnotation, isUndefaultCollectionOfEntities.and(doesNotHaveAtJoinColumn));
 
-		// Add @Fetch for lazy, Hibernate-mapped @OneToManys
-		if (!mapEager && jpa.isHibernate()) {
+		if (enhanced) {
+			result = defaultLazyGroups(result, isUndefaultedEntity);
+		}
+
+		// Add @Fetch or @BatchSize for Hibernate-mapped @OneToManys
+		if (jpa.isHibernate()) {
+
+			Optional<String> fetchMode = getFetchMode(enhanced, mapEager);
+
+			if (fetchMode.isPresent()) {
+				result = result.annotateFieldWith(createFetchModeAnnotation(fetchMode.get()), isCollectionOfEntities);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the Hibernate fetch mode to apply to collections of entities. An explicitly configured mode wins, a
+	 * configured batch size implies batch fetching. Otherwise, types subject to bytecode enhancement use batch fetching
+	 * and lazily mapped collections are loaded via sub-selects.
+	 *
+	 * @param enhanced whether the type is subject to Hibernate's bytecode enhancement.
+	 * @param eager whether the collections are mapped eagerly.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<String> getFetchMode(boolean enhanced, boolean eager) {
+
+		Optional<String> configured = configuration.getCollectionsFetchMode();
+
+		if (configured.isPresent()) {
+			return configured;
+		}
+
+		if (enhanced || configuration.getCollectionsBatchSize().isPresent()) {
+			return Optional.of("batch");
+		}
+
+		return eager ? Optional.empty() : Optional.of("subselect");
+	}
+
+	private AnnotationDescription createFetchModeAnnotation(String mode) {
+
+		if (mode.equals("batch")) {
+
+			return AnnotationDescription.Builder
+					.ofType(jpa.getAnnotation("org.hibernate.annotations.BatchSize"))
+					.define("size", configuration.getCollectionsBatchSize().orElse(DEFAULT_BATCH_SIZE))
+					.build();
+		}
+
+		Class<Fetch> fetchType = jpa.getType("org.hibernate.annotations.Fetch");
+		Class<FetchMode> fetchModeType = jpa.getType("org.hibernate.annotations.FetchMode");
+
+		return AnnotationDescription.Builder.ofType(fetchType)
+				.define("value", Enum.valueOf(fetchModeType, mode.toUpperCase(Locale.ENGLISH)))
+				.build();
+	}
 
-			Class<Fetch> fetchType = jpa.getType("org.hibernate.annotations.Fetch");
-			Class<FetchMode> fetchModeType = jpa.getType("org.hibernate.annotations.FetchMode");
+	/**
+	 * Adds a dedicated Hibernate {@code @LazyGroup} to each of the lazily mapped, defaulted to-one associations of a type
+	 * that is subject to Hibernate's bytecode enhancement, so that they can be loaded independently.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param toOne matcher for the defaulted to-one associations, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private JMoleculesTypeBuilder defaultLazyGroups(JMoleculesTypeBuilder type, Junction<FieldDescription> toOne) {
+
+		Class<? extends Annotation> lazyGroupType = jpa.getAnnotation("org.hibernate.annotations.LazyGroup");
+		JMoleculesTypeBuilder result = type;
 
-			AnnotationDescription fetchAnnotation = AnnotationDescription.Builder.ofType(fetchType)
-					.define("value", Enum.valueOf(fetchModeType, "SUBSELECT"))
+		for (FieldDescription field : type.getTypeDescription().getDeclaredFields().filter(toOne)) {
+
+			AnnotationDescription lazyGroup = AnnotationDescription.Builder.ofType(lazyGroupType)
+					.define("value", field.getName())
 					.build();
 
-			result = result.annotateFieldWith(fetchAnnotation, isCollectionOfEntities);
+			result = result.annotateFieldWith(lazyGroup, named(field.getName()));
 		}
 
 		return result;
 	}
 
+	/**
+	 * Returns whether the given type is subject to Hibernate's bytecode enhancement, either as explicitly configured or
+	 * as the type has already been enhanced.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return whether the given type is subject to Hibernate's bytecode enhancement.
+	 */
+	private boolean usesHibernateEnhancement(JMoleculesType type) {
+
+		return jpa.isHibernate()
+				&& (configuration.supportsHibernateEnhancement()
+						|| type.isAssignableTo(jpa.getType("org.hibernate.engine.spi.ManagedEntity")));
+	}
+
 	private JMoleculesTypeBuilder defaultCollectionOfValueObjects(JMoleculesTypeBuilder type) {
 
 		Junction<FieldDescription> matcher = genericFieldType(isCollectionOfValueObject());
@@ -316,7 +564,7 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 			return builder;
 		}
 
-		if (!EMBEDDABLE_RECORDS.contains(description)) {
+		if (!embeddableRecords.contains(description)) {
 			return builder;
 		}
 
@@ -352,6 +600,17 @@ public class JMoleculesJpaPlugin implements LoggingPlugin, WithPreprocessor {
 				.build());
 	}
 
+	private static boolean isHibernate6OrLater() {
+
+		String version = Version.getVersionString();
+
+		try {
+			return Integer.parseInt(version.substring(0, version.indexOf('.'))) >= 6;
+		} catch (RuntimeException o_O) {
+			return false;
+		}
+	}
+
 	private static Constructor<?> getConstructor(Class<?> type, Class<?>... parameters) {
 
 		try {
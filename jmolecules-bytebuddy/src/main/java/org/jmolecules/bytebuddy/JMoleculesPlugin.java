@@ -16,6 +16,7 @@
 package org.jmolecules.bytebuddy;
 
 import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.build.Plugin;
 import net.bytebuddy.build.Plugin.WithPreprocessor;
 import net.bytebuddy.description.type.TypeDescription;
@@ -27,28 +28,61 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jmolecules.bytebuddy.PerformanceReport.Phase;
+import org.jmolecules.bytebuddy.PluginLogger.Verbosity;
+
 /**
+ * The primary ByteBuddy {@link Plugin} that delegates to the technology specific plugins depending on what is available
+ * on the classpath. The plugin is safe to be used with ByteBuddy's parallel transformation, i.e. with multiple threads
+ * configured for the build plugin. In that case, ByteBuddy invokes
+ * {@link #onPreprocess(TypeDescription, ClassFileLocator)} for all types in parallel and only starts applying the
+ * transformations once all types have been preprocessed. Thus, all facts collected across types during preprocessing
+ * have to be kept in concurrent collections. The jMolecules roles of each type are computed only once per build and
+ * shared with all delegates via a {@link TypeClassification.Cache}.
+ *
  * @author Oliver Drotbohm
  * @author Simon Zambrovski
  */
 @Slf4j
 public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
-	private final Map<ClassFileLocator, List<LoggingPlugin>> globalPlugins = new HashMap<>();
-	private final Map<TypeDescription, List<? extends LoggingPlugin>> delegates = new HashMap<>();
+	private final Map<ClassFileLocator, ClassWorld> worlds = new ConcurrentHashMap<>();
+	private final Map<ClassFileLocator, List<LoggingPlugin>> globalPlugins = new ConcurrentHashMap<>();
+	private final Map<TypeDescription, List<? extends LoggingPlugin>> delegates = new ConcurrentHashMap<>();
+	private final Map<TypeDescription, ClassFileLocator> locators = new ConcurrentHashMap<>();
 	private final JMoleculesConfiguration configuration;
+	private final TransformationIndex index;
+	private final PerformanceReport report;
+	private final ReflectionMetadata metadata;
+	private final TypeClassification.Cache classifications = new TypeClassification.Cache();
+	private final HelperTypes helpers;
+	private final Set<TypeDescription> embeddableRecords = ConcurrentHashMap.newKeySet();
+	private final PluginLogger.Settings logging;
+	private final AtomicInteger noOps = new AtomicInteger();
 
 	public JMoleculesPlugin(File outputFolder) {
+
 		this.configuration = new JMoleculesConfiguration(outputFolder);
+		this.index = new TransformationIndex(outputFolder, configuration);
+		this.report = new PerformanceReport(outputFolder, configuration);
+		this.metadata = new ReflectionMetadata(outputFolder, configuration);
+		this.helpers = HelperTypes.forOutputFolder(outputFolder);
+
+		this.logging = configuration.getLogSettings();
 	}
 
 	/*
@@ -59,7 +93,11 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 	public void onPreprocess(TypeDescription typeDescription,
 			ClassFileLocator classFileLocator) {
 
+		metadata.seen(typeDescription);
+
 		if (!configuration.include(typeDescription)) {
+
+			index.register(typeDescription, Collections.emptyList());
 			return;
 		}
 
@@ -67,9 +105,11 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 			return;
 		}
 
+		metadata.add(typeDescription, classifications);
+
 		List<LoggingPlugin> plugins = globalPlugins.computeIfAbsent(classFileLocator, locator -> {
 
-			ClassWorld world = ClassWorld.of(locator);
+			ClassWorld world = worlds.computeIfAbsent(locator, ClassWorld::of);
 			Optional<Jpa> jpa = Jpa.getJavaPersistence(world);
 
 			return Stream.of(
@@ -88,17 +128,25 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 					.collect(Collectors.toList());
 		});
 
-		delegates.computeIfAbsent(typeDescription, it -> {
-
-			return plugins.stream()
-					.filter(plugin -> plugin.matches(it))
-					.peek(plugin -> {
-						if (plugin instanceof WithPreprocessor) {
-							((WithPreprocessor) plugin).onPreprocess(it, classFileLocator);
-						}
-					})
-					.collect(Collectors.toList());
-		});
+		// Not using computeIfAbsent(…) to not block other types hashed into the same bin while preprocessing
+		List<? extends LoggingPlugin> matching = plugins.stream()
+				.filter(plugin -> report.measure(plugin, Phase.MATCHES, typeDescription, () -> plugin.matches(typeDescription)))
+				.peek(plugin -> {
+					if (plugin instanceof WithPreprocessor) {
+						report.measure(plugin, Phase.PREPROCESS, typeDescription, () -> {
+							((WithPreprocessor) plugin).onPreprocess(typeDescription, classFileLocator);
+							return null;
+						});
+					}
+				})
+				.collect(Collectors.toList());
+
+		delegates.put(typeDescription, matching);
+		index.register(typeDescription, matching);
+
+		if (configuration.supportsNoOpDetection()) {
+			locators.put(typeDescription, classFileLocator);
+		}
 	}
 
 	/*
@@ -114,7 +162,12 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 		List<? extends Plugin> plugins = delegates.get(target);
 
-		return plugins != null && !plugins.isEmpty();
+		// Skip types unchanged since the previous build
+		if (plugins == null || plugins.isEmpty() || index.isUnchanged(target, plugins)) {
+			return false;
+		}
+
+		return !configuration.supportsNoOpDetection() || !isNoOp(target, plugins);
 	}
 
 	/*
@@ -126,9 +179,64 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 	public Builder<?> apply(Builder<?> builder,
 			TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
+		report.transformed(typeDescription);
+		PluginLogger.INSTANCE.transforming(typeDescription, logging);
+
 		return delegates.get(typeDescription).stream()
-				.reduce(builder, (it, plugin) -> (Builder) plugin.apply(it, typeDescription, classFileLocator),
-						(left, right) -> right);
+				.reduce(builder, (it, plugin) -> report.measure(plugin, Phase.APPLY, typeDescription,
+						() -> (Builder) plugin.apply(it, typeDescription, classFileLocator)), (left, right) -> right);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.bytebuddy.LoggingPlugin#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		index.write();
+		report.write();
+		metadata.write();
+
+		if (configuration.supportsNoOpDetection()) {
+			log.info("jMolecules - Left {} types untouched as no changes were necessary.", noOps.get());
+		}
+
+		worlds.values().forEach(ClassWorld::logStatistics);
+
+		LoggingPlugin.super.close();
+	}
+
+	/**
+	 * Returns whether applying the given plugins to the given type would not result in any change. As
+	 * {@link Builder}s are immutable, a delegate that does not change anything returns the very {@link Builder} instance
+	 * it was handed. Thus, we apply all plugins to a probe {@link Builder} that is never materialized and check whether
+	 * we end up with the original instance. If so, we report the type as not matching, so that ByteBuddy retains the
+	 * original class file instead of rewriting it. For all other types, the plugins are applied twice. The time spent on
+	 * the probe is reported as {@link Phase#PROBE}. Helper types required during the probe are only generated once, see
+	 * {@link HelperTypes}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param plugins must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private boolean isNoOp(TypeDescription type, List<? extends Plugin> plugins) {
+
+		ClassFileLocator locator = locators.getOrDefault(type, ClassFileLocator.NoOp.INSTANCE);
+
+		Builder<?> probe = new ByteBuddy().redefine(type, locator);
+		Builder<?> result = plugins.stream()
+				.reduce(probe, (it, plugin) -> report.measure(plugin, Phase.PROBE, type,
+						() -> (Builder) plugin.apply(it, type, locator)), (left, right) -> right);
+
+		if (result != probe) {
+			return false;
+		}
+
+		noOps.incrementAndGet();
+
+		return true;
 	}
 
 	private Stream<? extends LoggingPlugin> jpaPlugin(ClassWorld world, Optional<Jpa> jpa) {
@@ -147,22 +255,23 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 			return true;
 
-		}).map(it -> new JMoleculesJpaPlugin(it, world)) //
+		}).map(it -> new JMoleculesJpaPlugin(it, world, configuration, classifications, helpers,
+				embeddableRecords)) //
 				.map(Stream::of) //
 				.orElseGet(Stream::empty);
 	}
 
-	private static Stream<LoggingPlugin> springPlugin(ClassWorld world) {
+	private Stream<LoggingPlugin> springPlugin(ClassWorld world) {
 
 		return world.isAvailable("org.springframework.stereotype.Component") //
-				? Stream.of(new JMoleculesSpringPlugin()) //
+				? Stream.of(new JMoleculesSpringPlugin(configuration, classifications)) //
 				: Stream.empty();
 	}
 
-	private static Stream<LoggingPlugin> springDataPlugin(ClassWorld world) {
+	private Stream<LoggingPlugin> springDataPlugin(ClassWorld world) {
 
 		return world.isAvailable("org.springframework.data.repository.Repository") //
-				? Stream.of(new JMoleculesSpringDataPlugin()) //
+				? Stream.of(new JMoleculesSpringDataPlugin(configuration, classifications)) //
 				: Stream.empty();
 	}
 
@@ -171,7 +280,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 		return jpa.filter(__ -> configuration.supportsPersistence("jpa"))
 				.filter(__ -> world.isAvailable("org.springframework.stereotype.Component")) //
 				.filter(__ -> world.isAvailable("org.jmolecules.spring.jpa.AssociationAttributeConverter")) //
-				.map(it -> new JMoleculesSpringJpaPlugin(it)) //
+				.map(it -> new JMoleculesSpringJpaPlugin(it, configuration, classifications, helpers)) //
 				.map(Stream::of) //
 				.orElseGet(Stream::empty);
 	}
@@ -183,7 +292,8 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 		}
 
 		return world.isAvailable("org.springframework.data.jdbc.core.mapping.AggregateReference") //
-				? Stream.of(new JMoleculesSpringDataJdbcPlugin(), new EntityPlugin("JDBC")) //
+				? Stream.of(new JMoleculesSpringDataJdbcPlugin(configuration, classifications),
+						new EntityPlugin("JDBC", configuration, classifications)) //
 				: Stream.empty();
 	}
 
@@ -191,7 +301,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 		return jpa.filter(__ -> configuration.supportsPersistence("jpa"))
 				.filter(__ -> world.isAvailable("org.springframework.data.jpa.repository.JpaRepository")) //
-				.map(JMoleculesSpringDataJpaPlugin::new) //
+				.map(it -> new JMoleculesSpringDataJpaPlugin(it, configuration, classifications)) //
 				.map(Stream::of) //
 				.orElseGet(Stream::empty);
 	}
@@ -203,21 +313,22 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 		}
 
 		return world.isAvailable("org.springframework.data.mongodb.core.mapping.Document") //
-				? Stream.of(new JMoleculesSpringDataMongoDbPlugin(), new EntityPlugin("MongoDB")) //
+				? Stream.of(new JMoleculesSpringDataMongoDbPlugin(configuration, classifications),
+						new EntityPlugin("MongoDB", configuration, classifications)) //
 				: Stream.empty();
 	}
 
-	private static Stream<LoggingPlugin> axonPlugin(ClassWorld world) {
+	private Stream<LoggingPlugin> axonPlugin(ClassWorld world) {
 
 		return world.isAvailable("org.axonframework.commandhandling.CommandHandler") //
-				? Stream.of(new JMoleculesAxonPlugin()) //
+				? Stream.of(new JMoleculesAxonPlugin(configuration, classifications)) //
 				: Stream.empty();
 	}
 
-	private static Stream<LoggingPlugin> axonSpringPlugin(ClassWorld world) {
+	private Stream<LoggingPlugin> axonSpringPlugin(ClassWorld world) {
 
 		return world.isAvailable("org.axonframework.spring.stereotype.Aggregate") //
-				? Stream.of(new JMoleculesAxonSpringPlugin()) //
+				? Stream.of(new JMoleculesAxonSpringPlugin(configuration, classifications)) //
 				: Stream.empty();
 	}
 
@@ -225,7 +336,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 		return world.isAvailable("org.jmolecules.ddd.annotation.Entity")
 				&& world.isAvailable("org.springframework.boot.autoconfigure.SpringBootApplication")
-						? Stream.of(new JMoleculesSpringNativePlugin(configuration))
+						? Stream.of(new JMoleculesSpringNativePlugin(configuration, classifications))
 						: Stream.empty();
 	}
 
@@ -233,6 +344,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 	static class JMoleculesConfiguration {
 
 		private final Properties properties;
+		private final PackageFilter includes, excludes;
 
 		public JMoleculesConfiguration(File outputFolder) {
 			this(loadProperties(detectConfiguration(detectProjectRoot(outputFolder)), outputFolder));
@@ -242,11 +354,25 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 			this.properties = properties;
 
-			String toInclude = getPackagesToInclude();
+			String toInclude = properties.getProperty("bytebuddy.include");
+			String toExclude = properties.getProperty("bytebuddy.exclude");
+
+			this.includes = PackageFilter.of(toInclude);
+			this.excludes = PackageFilter.of(toExclude);
 
-			if (toInclude != null) {
+			if (!includes.isEmpty()) {
 				log.info("Applying code generation to types located in package(s): {}.", toInclude);
 			}
+
+			if (!excludes.isEmpty()) {
+				log.info("Excluding types located in package(s) from code generation: {}.", toExclude);
+			}
+
+			if (isConfigured("bytebuddy.jpa.collections.fetch", "lazy")
+					&& isConfigured("bytebuddy.jpa.collections.fetch-mode", "join")) {
+				log.warn("jMolecules - Hibernate fetches collections mapped with @Fetch(JOIN) eagerly, "
+						+ "bytebuddy.jpa.collections.fetch=lazy will not have any effect!");
+			}
 		}
 
 		String getProperty(String key) {
@@ -281,18 +407,9 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 
 		public boolean include(TypeDescription description) {
 
-			String value = properties.getProperty("bytebuddy.include", "");
+			String name = description.getName();
 
-			if (value.trim().isEmpty()) {
-				return true;
-			}
-
-			String[] parts = value.split("\\,");
-
-			return Stream.of(parts)
-					.map(String::trim)
-					.map(it -> it.concat("."))
-					.anyMatch(description.getName()::startsWith);
+			return (includes.isEmpty() || includes.matches(name)) && !excludes.matches(name);
 		}
 
 		public boolean supportsPersistence(String persistence) {
@@ -315,8 +432,136 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 			return "true".equals(properties.getProperty("bytebuddy.native-image"));
 		}
 
-		private String getPackagesToInclude() {
-			return properties.getProperty("bytebuddy.include");
+		public boolean supportsReflectConfig() {
+			return "true".equals(properties.getProperty("bytebuddy.native-image.reflect-config"));
+		}
+
+		public boolean supportsHibernateEnhancement() {
+			return "true".equals(properties.getProperty("bytebuddy.jpa.hibernate-enhancement"));
+		}
+
+		public boolean supportsIncrementalBuilds() {
+			return "true".equals(properties.getProperty("bytebuddy.incremental"));
+		}
+
+		public boolean supportsNoOpDetection() {
+			return "true".equals(properties.getProperty("bytebuddy.skip-no-ops"));
+		}
+
+		public boolean supportsPerformanceReport() {
+			return "true".equals(properties.getProperty("bytebuddy.report"));
+		}
+
+		public boolean supportsStreamingLog() {
+			return "true".equals(properties.getProperty("bytebuddy.log.streaming"));
+		}
+
+		/**
+		 * Returns the {@link PluginLogger.Settings} to use for the plugins created for this configuration.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		PluginLogger.Settings getLogSettings() {
+			return new PluginLogger.Settings(getLogVerbosity(), supportsStreamingLog());
+		}
+
+		public Verbosity getLogVerbosity() {
+
+			return getOneOf("bytebuddy.log.verbosity", "full", "types", "none")
+					.map(it -> Verbosity.valueOf(it.toUpperCase(Locale.ENGLISH)))
+					.orElse(Verbosity.FULL);
+		}
+
+		/**
+		 * Returns a fingerprint of the configuration that is stable across JVMs, so that it can be persisted to detect
+		 * configuration changes between builds.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		String getFingerprint() {
+
+			String source = properties.stringPropertyNames().stream()
+					.sorted()
+					.map(it -> it + "=" + properties.getProperty(it))
+					.collect(Collectors.joining("\n"));
+
+			return PluginUtils.sha256(source.getBytes(StandardCharsets.UTF_8));
+		}
+
+		public boolean supportsIdentifierConverters() {
+			return "true".equals(properties.getProperty("bytebuddy.jpa.identifier-converters"));
+		}
+
+		public Optional<String> getCollectionsFetchType() {
+			return getOneOf("bytebuddy.jpa.collections.fetch", "lazy", "eager");
+		}
+
+		public Optional<String> getCollectionsFetchMode() {
+			return getOneOf("bytebuddy.jpa.collections.fetch-mode", "subselect", "batch", "join");
+		}
+
+		public Optional<Integer> getCollectionsBatchSize() {
+			return getInteger("bytebuddy.jpa.collections.batch-size", 1);
+		}
+
+		public Optional<String> getSpringDataRepositoryBase() {
+			return getOneOf("bytebuddy.spring-data.repository-base", "crud", "list-crud", "paging");
+		}
+
+		/**
+		 * Returns the number of events after which a snapshot of the given Axon aggregate is to be taken. Configured
+		 * per aggregate type via {@code bytebuddy.axon.snapshot-threshold.$typeName}, falling back to
+		 * {@code bytebuddy.axon.snapshot-threshold}. A value of 0 disables snapshotting.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public Optional<Integer> getAxonSnapshotThreshold(TypeDescription type) {
+
+			String key = "bytebuddy.axon.snapshot-threshold";
+			String typeKey = key + "." + type.getName();
+
+			return getInteger(getTrimmed(typeKey).isPresent() ? typeKey : key, 0)
+					.filter(it -> it > 0);
+		}
+
+		private Optional<Integer> getInteger(String key, int minimum) {
+
+			return getTrimmed(key).map(it -> {
+
+				try {
+
+					int value = Integer.parseInt(it);
+
+					if (value >= minimum) {
+						return value;
+					}
+
+				} catch (NumberFormatException o_O) {}
+
+				throw new IllegalStateException(String.format("Invalid value %s for %s! Expected a %s integer.", it, key,
+						minimum > 0 ? "positive" : "non-negative"));
+			});
+		}
+
+		private Optional<String> getOneOf(String key, String... candidates) {
+
+			return getTrimmed(key)
+					.map(it -> it.toLowerCase(Locale.ENGLISH))
+					.map(it -> Stream.of(candidates).filter(it::equals).findFirst()
+							.orElseThrow(() -> new IllegalStateException(String.format("Invalid value %s for %s! Expected one of %s.",
+									it, key, String.join(", ", candidates)))));
+		}
+
+		private boolean isConfigured(String key, String value) {
+			return getTrimmed(key).filter(value::equalsIgnoreCase).isPresent();
+		}
+
+		private Optional<String> getTrimmed(String key) {
+
+			return Optional.ofNullable(properties.getProperty(key))
+					.map(String::trim)
+					.filter(it -> !it.isEmpty());
 		}
 
 		private static void logNoConfigFound(File outputFolder) {
@@ -325,7 +570,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 			return;
 		}
 
-		private static Path detectProjectRoot(File file) {
+		static Path detectProjectRoot(File file) {
 
 			String path = file.getAbsolutePath();
 
@@ -355,7 +600,7 @@ public class JMoleculesPlugin implements LoggingPlugin, WithPreprocessor {
 		}
 	}
 
-	private static boolean hasBuildFile(Path folder) {
+	static boolean hasBuildFile(Path folder) {
 
 		return Stream.of("pom.xml", "build.gradle", "build.gradle.kts")
 				.map(folder::resolve)
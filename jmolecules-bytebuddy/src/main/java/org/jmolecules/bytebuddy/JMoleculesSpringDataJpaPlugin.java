@@ -21,6 +21,7 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.types.AggregateRoot;
 import org.springframework.data.domain.Persistable;
@@ -33,12 +34,37 @@ import org.springframework.data.domain.Persistable;
 @NoArgsConstructor
 public class JMoleculesSpringDataJpaPlugin implements LoggingPlugin, WithPreprocessor {
 
-	private PersistableOptions options;
+	private volatile PersistableOptions options;
+	private TypeClassification.Cache classifications = new TypeClassification.Cache();
+	private PluginLogger.Settings logging = PluginLogger.Settings.DEFAULT;
 
 	public JMoleculesSpringDataJpaPlugin(Jpa jpa) {
 		this.options = getOptions(jpa);
 	}
 
+	/**
+	 * Creates a new {@link JMoleculesSpringDataJpaPlugin} for the given {@link Jpa} using the given
+	 * {@link TypeClassification.Cache}.
+	 *
+	 * @param jpa must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesSpringDataJpaPlugin(Jpa jpa, JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		this(jpa);
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.jmolecules.bytebuddy.JMoleculesPluginSupport#onPreprocess(net.bytebuddy.description.type.TypeDescription, net.bytebuddy.dynamic.ClassFileLocator)
@@ -46,9 +72,9 @@ public class JMoleculesSpringDataJpaPlugin implements LoggingPlugin, WithPreproc
 	@Override
 	public void onPreprocess(TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		Jpa jpa = Jpa.getJavaPersistence(ClassWorld.of(classFileLocator)).get();
-
-		this.options = getOptions(jpa);
+		if (options == null) {
+			this.options = getOptions(Jpa.getJavaPersistence(ClassWorld.of(classFileLocator)).get());
+		}
 	}
 
 	/*
@@ -57,7 +83,7 @@ public class JMoleculesSpringDataJpaPlugin implements LoggingPlugin, WithPreproc
 	 */
 	@Override
 	public boolean matches(TypeDescription target) {
-		return !PluginUtils.isCglibProxyType(target) && target.isAssignableTo(AggregateRoot.class);
+		return !PluginUtils.isCglibProxyType(target) && classifications.classify(target).isAssignableTo(AggregateRoot.class);
 	}
 
 	/*
@@ -67,7 +93,7 @@ public class JMoleculesSpringDataJpaPlugin implements LoggingPlugin, WithPreproc
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data JPA");
+		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data JPA", logging);
 
 		return JMoleculesTypeBuilder.of(log, builder)
 				.implementPersistable(options)
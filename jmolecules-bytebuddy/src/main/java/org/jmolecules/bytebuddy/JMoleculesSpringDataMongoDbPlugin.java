@@ -19,11 +19,15 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 
+import java.util.Properties;
+
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.types.AggregateRoot;
 import org.jmolecules.spring.mongodb.NotNewCallback;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -35,11 +39,33 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class JMoleculesSpringDataMongoDbPlugin implements LoggingPlugin {
 
 	private final PersistableOptions options;
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
 
 	public JMoleculesSpringDataMongoDbPlugin() {
+		this(new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesSpringDataMongoDbPlugin} using the given {@link TypeClassification.Cache}.
+	 *
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesSpringDataMongoDbPlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
 
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
 		this.options = PersistableOptions.of(Transient.class)
-				.withCallbackInterface(NotNewCallback.class);
+				.withCallbackInterface(NotNewCallback.class)
+				.withVersionAnnotation(Version.class);
 	}
 
 	/*
@@ -48,7 +74,7 @@ public class JMoleculesSpringDataMongoDbPlugin implements LoggingPlugin {
 	 */
 	@Override
 	public boolean matches(TypeDescription target) {
-		return !PluginUtils.isCglibProxyType(target) && target.isAssignableTo(AggregateRoot.class);
+		return !PluginUtils.isCglibProxyType(target) && classifications.classify(target).isAssignableTo(AggregateRoot.class);
 	}
 
 	/*
@@ -58,7 +84,7 @@ public class JMoleculesSpringDataMongoDbPlugin implements LoggingPlugin {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data MongoDB");
+		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data MongoDB", logging);
 
 		return JMoleculesTypeBuilder.of(log, builder)
 				.annotateIdentifierWith(Id.class)
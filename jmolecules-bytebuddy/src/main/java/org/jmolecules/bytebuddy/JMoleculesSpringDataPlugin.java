@@ -15,28 +15,62 @@
  */
 package org.jmolecules.bytebuddy;
 
+import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.jmolecules.bytebuddy.PluginUtils.*;
 
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.asm.Advice.Argument;
+import net.bytebuddy.asm.Advice.OnMethodExit;
+import net.bytebuddy.asm.Advice.Return;
+import net.bytebuddy.asm.Advice.This;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDefinition.Sort;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeDescription.ForLoadedType;
 import net.bytebuddy.description.type.TypeDescription.Generic;
+import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
+import net.bytebuddy.matcher.ElementMatcher;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
 
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.annotation.Repository;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifiable;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.RepositoryDefinition;
 
 /**
  * Plugin to annotate Spring Data repository with JMolecules' {@link Repository} annotation and implement Spring Data's
  * {@link org.springframework.data.repository.Repository} interface for repositories declared as JMolecules
- * {@link org.jmolecules.ddd.types.Repository}.
+ * {@link org.jmolecules.ddd.types.Repository}. The Spring Data base interfaces to implement for the latter can be
+ * configured via {@code bytebuddy.spring-data.repository-base} ({@code crud}, {@code list-crud} or {@code paging}).
+ * Repositories that are jMolecules {@code AssociationResolver}s get {@code exists(…)} and {@code resolve(…, Class)}
+ * implemented via {@code existsById(…)} and a dynamic projection query {@code findById(…, Class)}. CRUD repositories
+ * that are {@code AggregateLookup}s get {@code findAll(Collection)} implemented via a single {@code findAllById(…)}
+ * call.
  *
  * @author Oliver Drotbohm
  */
@@ -44,8 +78,20 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 
 	private static final Class<?> SPRING_DATA_REPOSITORY = org.springframework.data.repository.Repository.class;
 	private static final Class<?> JMOLECULES_REPOSITORY = org.jmolecules.ddd.types.Repository.class;
+	private static final String AGGREGATE_LOOKUP = "org.jmolecules.ddd.integration.AggregateLookup";
+	private static final String ASSOCIATION_RESOLVER = "org.jmolecules.ddd.integration.AssociationResolver";
+	private static final MethodDescription ASSOCIATION_GET_ID = new ForLoadedType(Identifiable.class)
+			.getDeclaredMethods().filter(named("getId")).getOnly();
+	private static final ElementMatcher<MethodDescription> EXISTS = named("exists").and(takesArguments(1));
+	private static final ElementMatcher<MethodDescription> RESOLVE_PROJECTION = named("resolve").and(takesArguments(2));
+	private static final ElementMatcher<MethodDescription> FIND_ALL = named("findAll")
+			.and(takesArguments(Collection.class));
+	private static final ElementMatcher<MethodDescription> EXISTS_BY_ID = named("existsById").and(takesArguments(1));
+	private static final ElementMatcher<MethodDescription> FIND_BY_ID_PROJECTION = named("findById")
+			.and(takesArguments(2)).and(takesArgument(1, Class.class));
 
 	private static final Map<Class<?>, Class<? extends Annotation>> TYPES;
+	private static final Map<String, List<Class<?>>> REPOSITORY_BASES;
 
 	static {
 
@@ -55,6 +101,46 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 		types.put(org.springframework.data.repository.Repository.class, Repository.class);
 
 		TYPES = Collections.unmodifiableMap(types);
+
+		Map<String, List<Class<?>>> bases = new HashMap<>();
+
+		bases.put("crud", Arrays.asList(CrudRepository.class));
+		bases.put("list-crud", Arrays.asList(ListCrudRepository.class));
+		bases.put("paging", Arrays.asList(CrudRepository.class, PagingAndSortingRepository.class));
+
+		REPOSITORY_BASES = Collections.unmodifiableMap(bases);
+	}
+
+	private final List<Class<?>> repositoryBases;
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
+
+	public JMoleculesSpringDataPlugin() {
+		this(new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesSpringDataPlugin} using the given {@link JMoleculesConfiguration} and
+	 * {@link TypeClassification.Cache}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesSpringDataPlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		this.repositoryBases = configuration.getSpringDataRepositoryBase()
+				.map(REPOSITORY_BASES::get)
+				.orElseGet(() -> Arrays.asList(SPRING_DATA_REPOSITORY));
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
 	}
 
 	/*
@@ -64,10 +150,10 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 	@Override
 	public boolean matches(TypeDescription target) {
 
-		return target.isAssignableTo(JMOLECULES_REPOSITORY)
-				|| TYPES.keySet().stream().anyMatch(it -> it.isAnnotation()
-						? PluginUtils.isAnnotatedWith(target, it)
-						: target.isAssignableTo(it));
+		TypeClassification classification = classifications.classify(target);
+
+		return classification.isAssignableTo(JMOLECULES_REPOSITORY)
+				|| TYPES.keySet().stream().anyMatch(classification::isAnnotatedWithOrAssignableTo);
 	}
 
 	/*
@@ -77,12 +163,17 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data");
+		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring Data", logging);
 
 		Builder<?> result = builder;
 
 		if (!typeDescription.isAssignableTo(SPRING_DATA_REPOSITORY)) {
-			result = translateRepositoryInterfaces(result, typeDescription, typeDescription.asGenericType(), log);
+			result = translateRepositoryInterfaces(result, typeDescription.asGenericType(), log);
+		}
+
+		if (typeDescription.isInterface()) {
+			result = implementAssociationResolution(result, typeDescription, log);
+			result = implementBatchLookup(result, typeDescription, log);
 		}
 
 		return mapAnnotationOrInterfaces(result, typeDescription, TYPES, log);
@@ -95,8 +186,7 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 	@Override
 	public void close() throws IOException {}
 
-	private static Builder<?> translateRepositoryInterfaces(Builder<?> builder, TypeDescription original, Generic type,
-			Log log) {
+	private Builder<?> translateRepositoryInterfaces(Builder<?> builder, Generic type, Log log) {
 
 		if (type.asErasure().represents(JMOLECULES_REPOSITORY)) {
 
@@ -105,14 +195,18 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 				Generic aggregateType = type.getTypeArguments().get(0);
 				Generic idType = type.getTypeArguments().get(1);
 
-				ForLoadedType loadedType = new TypeDescription.ForLoadedType(SPRING_DATA_REPOSITORY);
-				Generic repositoryType = Generic.Builder.parameterizedType(loadedType, aggregateType, idType).build();
+				List<Generic> repositoryTypes = repositoryBases.stream()
+						.map(ForLoadedType::new)
+						.map(it -> Generic.Builder.parameterizedType(it, aggregateType, idType).build())
+						.collect(Collectors.toList());
 
-				log.info("Implement {}<{}, {}>.",
-						PluginUtils.abbreviate(repositoryType.asErasure()), PluginUtils.abbreviate(aggregateType.asErasure()),
-						PluginUtils.abbreviate(idType.asErasure()));
+				for (Generic repositoryType : repositoryTypes) {
+					log.info("Implement {}<{}, {}>.",
+							PluginUtils.abbreviate(repositoryType.asErasure()), PluginUtils.abbreviate(aggregateType.asErasure()),
+							PluginUtils.abbreviate(idType.asErasure()));
+				}
 
-				return builder.implement(repositoryType);
+				return builder.implement(repositoryTypes);
 
 			} catch (Exception o_O) {
 
@@ -124,10 +218,171 @@ public class JMoleculesSpringDataPlugin implements LoggingPlugin {
 
 		if (type.isInterface()) {
 			for (Generic parent : type.getInterfaces()) {
-				builder = translateRepositoryInterfaces(builder, original, parent, log);
+				builder = translateRepositoryInterfaces(builder, parent, log);
 			}
 		}
 
 		return builder;
 	}
+
+	/**
+	 * Implements {@code AssociationResolver.exists(…)} and {@code AssociationResolver.resolve(…, Class)} so that they
+	 * don't need to load the entire aggregate. The former is routed to {@code existsById(…)}, the latter to a dynamic
+	 * projection query method {@code findById(…, Class)}. Both are declared on the repository if not already present
+	 * and Spring Data can derive a query for them, i.e. the aggregate has a property named {@code id}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param log must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Builder<?> implementAssociationResolution(Builder<?> builder, TypeDescription type, Log log) {
+
+		Optional<TypeList.Generic> arguments = findInterface(type.asGenericType(), ASSOCIATION_RESOLVER)
+				.filter(it -> it.getSort().equals(Sort.PARAMETERIZED))
+				.map(Generic::getTypeArguments)
+				.filter(it -> it.stream().allMatch(argument -> argument.getSort().equals(Sort.NON_GENERIC)));
+
+		if (!arguments.isPresent()) {
+			return builder;
+		}
+
+		TypeDescription aggregateType = arguments.get().get(0).asErasure();
+		Generic idType = arguments.get().get(1);
+		TypeDescription repository = builder.toTypeDescription();
+		boolean derivesQueries = hasIdProperty(aggregateType);
+
+		if (!hasMethod(repository, EXISTS_BY_ID) && derivesQueries) {
+
+			log.info("Declaring existsById({}).", abbreviate(idType));
+
+			builder = builder.defineMethod("existsById", boolean.class, Visibility.PUBLIC)
+					.withParameters(idType)
+					.withoutCode();
+		}
+
+		if (!hasMethod(repository, FIND_BY_ID_PROJECTION) && derivesQueries) {
+
+			log.info("Declaring findById({}, Class) dynamic projection query.", abbreviate(idType));
+
+			Generic projectionType = Generic.Builder.typeVariable("P").build();
+
+			builder = builder.defineMethod("findById",
+					Generic.Builder.parameterizedType(new ForLoadedType(Optional.class), projectionType).build(),
+					Visibility.PUBLIC)
+					.withParameters(idType,
+							Generic.Builder.parameterizedType(new ForLoadedType(Class.class), projectionType).build())
+					.typeVariable("P")
+					.withoutCode();
+		}
+
+		repository = builder.toTypeDescription();
+
+		if (hasMethod(repository, EXISTS_BY_ID) && type.getDeclaredMethods().filter(EXISTS).isEmpty()) {
+
+			log.info("Implementing exists(…) via existsById(…).");
+
+			builder = builder.defineMethod("exists", boolean.class, Visibility.PUBLIC)
+					.withParameters(Association.class)
+					.intercept(MethodCall.invoke(EXISTS_BY_ID)
+							.withMethodCall(MethodCall.invoke(ASSOCIATION_GET_ID).onArgument(0))
+							.withAssigner(Assigner.DEFAULT, Typing.DYNAMIC));
+		}
+
+		if (hasMethod(repository, FIND_BY_ID_PROJECTION)
+				&& type.getDeclaredMethods().filter(RESOLVE_PROJECTION).isEmpty()) {
+
+			log.info("Implementing resolve(…, Class) via findById(…, Class).");
+
+			builder = builder.defineMethod("resolve", Optional.class, Visibility.PUBLIC)
+					.withParameters(Association.class, Class.class)
+					.intercept(MethodCall.invoke(FIND_BY_ID_PROJECTION)
+							.withMethodCall(MethodCall.invoke(ASSOCIATION_GET_ID).onArgument(0))
+							.withArgument(1)
+							.withAssigner(Assigner.DEFAULT, Typing.DYNAMIC));
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Implements {@code AggregateLookup.findAll(Collection)} for CRUD repositories so that all aggregates are looked
+	 * up via a single {@link CrudRepository#findAllById(Iterable)} call instead of one call per identifier.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param log must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Builder<?> implementBatchLookup(Builder<?> builder, TypeDescription type, Log log) {
+
+		boolean aggregateLookup = findInterface(type.asGenericType(), AGGREGATE_LOOKUP)
+				.filter(it -> it.getSort().equals(Sort.PARAMETERIZED))
+				.map(it -> it.getTypeArguments().get(0))
+				.filter(it -> it.getSort().equals(Sort.NON_GENERIC))
+				.filter(it -> it.asErasure().isAssignableTo(Identifiable.class))
+				.isPresent();
+
+		if (!aggregateLookup
+				|| !builder.toTypeDescription().isAssignableTo(CrudRepository.class)
+				|| !type.getDeclaredMethods().filter(FIND_ALL).isEmpty()) {
+			return builder;
+		}
+
+		log.info("Implementing findAll(Collection) via findAllById(…).");
+
+		return builder.defineMethod("findAll", Map.class, Visibility.PUBLIC)
+				.withParameters(Collection.class)
+				.intercept(Advice.to(BatchLookup.class).wrap(StubMethod.INSTANCE));
+	}
+
+	private static Optional<Generic> findInterface(Generic type, String name) {
+
+		for (Generic candidate : type.getInterfaces()) {
+
+			if (candidate.asErasure().getName().equals(name)) {
+				return Optional.of(candidate);
+			}
+
+			Optional<Generic> result = findInterface(candidate, name);
+
+			if (result.isPresent()) {
+				return result;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private static boolean hasIdProperty(TypeDescription type) {
+
+		for (TypeDefinition current = type; current != null; current = current.getSuperClass()) {
+			if (!current.getDeclaredFields().filter(named("id")).isEmpty()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean hasMethod(TypeDescription type, ElementMatcher<? super MethodDescription> matcher) {
+
+		return !type.getDeclaredMethods().filter(matcher).isEmpty()
+				|| type.getInterfaces().asErasures().stream().anyMatch(it -> hasMethod(it, matcher));
+	}
+
+	public static class BatchLookup {
+
+		@OnMethodExit
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		public static void findAll(@This Object repository, @Argument(0) Collection ids,
+				@Return(readOnly = false) Map result) {
+
+			result = new LinkedHashMap();
+
+			for (Object aggregate : ((CrudRepository) repository).findAllById(ids)) {
+				result.put(((Identifiable) aggregate).getId(), aggregate);
+			}
+		}
+	}
 }
@@ -15,7 +15,6 @@
  */
 package org.jmolecules.bytebuddy;
 
-import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
@@ -31,7 +30,6 @@ import net.bytebuddy.description.type.TypeDescription.Generic;
 import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType.Builder;
-import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
 
@@ -40,24 +38,64 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.types.Association;
 
 /**
  * Registers a dedicated subclass of {@code AssociationAttributeConverter} for each {@link Association} declared without
- * an explicit {@link AttributeConverter} registered via {@link Convert}.
+ * an explicit {@link AttributeConverter} registered via {@link Convert}. A single converter is generated per aggregate
+ * type and package and shared by all {@link Association}s in that package pointing to it.
  *
  * @author Oliver Drotbohm
  */
 @NoArgsConstructor
-@AllArgsConstructor
 public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocessor {
 
-	private Jpa jpa;
+	private volatile Jpa jpa;
+	private TypeClassification.Cache classifications = new TypeClassification.Cache();
+	private HelperTypes converters = new HelperTypes();
+	private PluginLogger.Settings logging = PluginLogger.Settings.DEFAULT;
+
+	public JMoleculesSpringJpaPlugin(Jpa jpa) {
+		this.jpa = jpa;
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesSpringJpaPlugin} for the given {@link Jpa} using the given
+	 * {@link JMoleculesConfiguration}, {@link TypeClassification.Cache} and {@link HelperTypes}.
+	 *
+	 * @param jpa must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 * @param converters must not be {@literal null}.
+	 */
+	JMoleculesSpringJpaPlugin(Jpa jpa, JMoleculesConfiguration configuration, TypeClassification.Cache classifications,
+			HelperTypes converters) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		if (converters == null) {
+			throw new IllegalArgumentException("HelperTypes must not be null!");
+		}
+
+		this.jpa = jpa;
+		this.classifications = classifications;
+		this.converters = converters;
+		this.logging = configuration.getLogSettings();
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -68,7 +106,7 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 
 		return !PluginUtils.isCglibProxyType(target)
 				&& (target.getDeclaredAnnotations().isAnnotationPresent(jpa.getAnnotation("Entity"))
-						|| target.isAssignableTo(org.jmolecules.ddd.types.Entity.class));
+						|| classifications.classify(target).isAssignableTo(org.jmolecules.ddd.types.Entity.class));
 	}
 
 	/*
@@ -78,8 +116,9 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 	@Override
 	public void onPreprocess(TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		ClassWorld world = ClassWorld.of(classFileLocator);
-		this.jpa = Jpa.getJavaPersistence(world).get();
+		if (jpa == null) {
+			this.jpa = Jpa.getJavaPersistence(ClassWorld.of(classFileLocator)).get();
+		}
 	}
 
 	/*
@@ -89,7 +128,7 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription typeDescription, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring JPA");
+		Log log = PluginLogger.INSTANCE.getLog(typeDescription, "Spring JPA", logging);
 
 		return JMoleculesTypeBuilder.of(log, builder)
 				.mapBuilder(this::addConvertAnnotationIfNeeded)
@@ -102,16 +141,18 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 				.filter(isAssociationOrCollectionThereof())
 				.collect(Collectors.toList());
 
+		Map<TypeDescription, TypeDescription> required = new HashMap<>();
+
 		for (InDefinedShape field : associationFields) {
 
 			if (field.getDeclaredAnnotations().isAnnotationPresent(jpa.getAnnotation("Convert"))) {
 
-				logger.info("Found existing converter registration for field {}.", field.getName());
+				logger.detail("Found existing converter registration for field {}.", field.getName());
 
 				continue;
 			}
 
-			builder = createConvertAnnotation(field, builder, logger);
+			builder = createConvertAnnotation(field, builder, required, logger);
 		}
 
 		return builder;
@@ -124,7 +165,8 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 	@Override
 	public void close() throws IOException {}
 
-	private Builder<?> createConvertAnnotation(InDefinedShape field, Builder<?> builder, Log log) {
+	private Builder<?> createConvertAnnotation(InDefinedShape field, Builder<?> builder,
+			Map<TypeDescription, TypeDescription> required, Log log) {
 
 		boolean isCollection = field.getType().asErasure().isAssignableTo(Collection.class);
 		Generic associationType = isCollection ? field.getType().getTypeArguments().get(0) : field.getType();
@@ -136,30 +178,26 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 
 		if (idPrimitiveType == null) {
 
-			log.info("{} - Unable to detect id primitive in {}.", field.getName(), PluginUtils.abbreviate(idType));
+			log.detail("{} - Unable to detect id primitive in {}.", field.getName(), PluginUtils.abbreviate(idType));
 
 			return builder;
 		}
 
-		ForLoadedType loadedType = new TypeDescription.ForLoadedType(jpa.getAssociationAttributeConverterBaseType());
-		Generic superType = TypeDescription.Generic.Builder
-				.parameterizedType(loadedType, aggregateType, idType, idPrimitiveType).build();
+		TypeDescription converterType = required.get(aggregateType.asErasure());
 
-		Builder<?> converterBuilder = new ByteBuddy(ClassFileVersion.JAVA_V8)
-				.with(new ReferenceTypePackageNamingStrategy(aggregateType.asErasure(), "AssociationConverter"))
-				.subclass(superType)
-				.annotateType(PluginUtils.getAnnotation(jpa.getAnnotation("Converter")));
+		// Only attach the converter once per type
+		if (converterType == null) {
 
-		Unloaded<?> converterType = PluginUtils.markGenerated(converterBuilder, log)
-				.defineConstructor(Visibility.PACKAGE_PRIVATE)
-				.intercept(MethodCall.invoke(getConverterConstructor()).onSuper().with(idType.asErasure()))
-				.make();
+			Builder<?> converter = createConverter(builder.toTypeDescription(), aggregateType, idType, idPrimitiveType, log);
 
-		builder = builder.require(converterType);
+			builder = converters.require(builder, converter);
+			converterType = converter.toTypeDescription();
+			required.put(aggregateType.asErasure(), converterType);
+		}
 
 		Junction<FieldDescription> fieldMatcher = ElementMatchers.is(field);
 		String logMessage = String.format("%s - Adding @j.p.Convert(converter=%s)", field.getName(),
-				PluginUtils.abbreviate(converterType.getTypeDescription()));
+				PluginUtils.abbreviate(converterType));
 
 		List<AnnotationDescription> annotations = new ArrayList<>();
 
@@ -171,15 +209,32 @@ public class JMoleculesSpringJpaPlugin implements LoggingPlugin, WithPreprocesso
 			annotations.add(PluginUtils.getAnnotation(elementCollectionAnnotation));
 		}
 
-		log.info(logMessage + ".", field.getName(), PluginUtils.abbreviate(converterType.getTypeDescription()));
+		log.detail(logMessage + ".", field.getName(), PluginUtils.abbreviate(converterType));
 
 		annotations.add(AnnotationDescription.Builder.ofType(jpa.getAnnotation("Convert"))
-				.define("converter", converterType.getTypeDescription())
+				.define("converter", converterType)
 				.build());
 
 		return builder.field(fieldMatcher).annotateField(annotations);
 	}
 
+	private Builder<?> createConverter(TypeDescription requester, Generic aggregateType, Generic idType,
+			Generic idPrimitiveType, Log log) {
+
+		ForLoadedType loadedType = new TypeDescription.ForLoadedType(jpa.getAssociationAttributeConverterBaseType());
+		Generic superType = TypeDescription.Generic.Builder
+				.parameterizedType(loadedType, aggregateType, idType, idPrimitiveType).build();
+
+		Builder<?> converterBuilder = new ByteBuddy(ClassFileVersion.JAVA_V8)
+				.with(converters.getNamingStrategy(requester, aggregateType.asErasure(), "AssociationConverter"))
+				.subclass(superType)
+				.annotateType(PluginUtils.getAnnotation(jpa.getAnnotation("Converter")));
+
+		return PluginUtils.markGenerated(converterBuilder, log)
+				.defineConstructor(Visibility.PACKAGE_PRIVATE)
+				.intercept(MethodCall.invoke(getConverterConstructor()).onSuper().with(idType.asErasure()));
+	}
+
 	private static TypeDescription.Generic getIdPrimitiveType(Generic idType) {
 
 		List<InGenericShape> fields = idType.getDeclaredFields().stream()
@@ -37,9 +37,14 @@ import org.springframework.context.annotation.ReflectiveScan;
 class JMoleculesSpringNativePlugin implements LoggingPlugin {
 
 	private final JMoleculesConfiguration configuration;
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
+
+	JMoleculesSpringNativePlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
 
-	JMoleculesSpringNativePlugin(JMoleculesConfiguration configuration) {
 		this.configuration = configuration;
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
 	}
 
 	/*
@@ -53,11 +58,16 @@ class JMoleculesSpringNativePlugin implements LoggingPlugin {
 			return false;
 		}
 
-		JMoleculesType jMoleculesType = new JMoleculesType(type);
+		TypeClassification classification = classifications.classify(type);
+
+		// Members accessed reflectively are listed in reflect-config.json instead
+		if (configuration.supportsReflectConfig()) {
+			return classification.hasAnnotation(SpringBootApplication.class);
+		}
 
-		return jMoleculesType.isValueObject()
-				|| jMoleculesType.isEntity()
-				|| jMoleculesType.hasAnnotation(SpringBootApplication.class);
+		return classification.isValueObject()
+				|| classification.isEntity()
+				|| classification.hasAnnotation(SpringBootApplication.class);
 	}
 
 	/*
@@ -67,7 +77,7 @@ class JMoleculesSpringNativePlugin implements LoggingPlugin {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription type, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(type, "Spring AOT");
+		Log log = PluginLogger.INSTANCE.getLog(type, "Spring AOT", logging);
 
 		if (isAnnotatedWith(type, SpringBootApplication.class)) {
 
@@ -30,8 +30,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.Set;
 
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.ddd.annotation.Repository;
 import org.jmolecules.ddd.annotation.Service;
@@ -76,6 +78,32 @@ public class JMoleculesSpringPlugin implements LoggingPlugin {
 		METHOD_ANNOTATIONS = Collections.unmodifiableMap(methods);
 	}
 
+	private final TypeClassification.Cache classifications;
+	private final PluginLogger.Settings logging;
+
+	public JMoleculesSpringPlugin() {
+		this(new JMoleculesConfiguration(new Properties()), new TypeClassification.Cache());
+	}
+
+	/**
+	 * Creates a new {@link JMoleculesSpringPlugin} using the given {@link TypeClassification.Cache}.
+	 *
+	 * @param classifications must not be {@literal null}.
+	 */
+	JMoleculesSpringPlugin(JMoleculesConfiguration configuration, TypeClassification.Cache classifications) {
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		if (classifications == null) {
+			throw new IllegalArgumentException("TypeClassification.Cache must not be null!");
+		}
+
+		this.classifications = classifications;
+		this.logging = configuration.getLogSettings();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.bytebuddy.matcher.ElementMatcher#matches(java.lang.Object)
@@ -87,9 +115,9 @@ public class JMoleculesSpringPlugin implements LoggingPlugin {
 			return false;
 		}
 
-		return TRIGGERS.stream().anyMatch(it -> it.isAnnotation() //
-				? isAnnotatedWith(type, it) //
-				: type.isAssignableTo(it));
+		TypeClassification classification = classifications.classify(type);
+
+		return TRIGGERS.stream().anyMatch(classification::isAnnotatedWithOrAssignableTo);
 	}
 
 	/*
@@ -99,7 +127,7 @@ public class JMoleculesSpringPlugin implements LoggingPlugin {
 	@Override
 	public Builder<?> apply(Builder<?> builder, TypeDescription type, ClassFileLocator classFileLocator) {
 
-		Log log = PluginLogger.INSTANCE.getLog(type, "Spring");
+		Log log = PluginLogger.INSTANCE.getLog(type, "Spring", logging);
 		Builder<?> result = mapAnnotationOrInterfaces(builder, type, MAPPINGS, log);
 
 		for (Entry<Class<? extends Annotation>, Class<? extends Annotation>> entry : METHOD_ANNOTATIONS.entrySet()) {
@@ -186,9 +186,16 @@ class JMoleculesTypeBuilder extends JMoleculesType {
 			alreadyAnnotated = alreadyAnnotated.or(ElementMatchers.isAnnotatedWith(filterAnnotation));
 		}
 
+		Junction<FieldDescription> fieldsToAnnotate = selector.and(not(alreadyAnnotated));
+
+		// Keep the builder untouched if there's nothing to annotate
+		if (!hasField(fieldsToAnnotate)) {
+			return this;
+		}
+
 		AsmVisitorWrapper annotationSpec = new MemberAttributeExtension.ForField()
 				.annotate(annotation)
-				.on(PluginUtils.defaultMapping(logger, selector.and(not(alreadyAnnotated)), annotation));
+				.on(PluginUtils.defaultMapping(logger, fieldsToAnnotate, annotation));
 
 		return JMoleculesTypeBuilder.of(logger, builder.visit(annotationSpec));
 	}
@@ -30,7 +30,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 class Jpa {
 
-	private static Optional<Jpa> INSTANCE;
+	private static volatile Optional<Jpa> INSTANCE;
 
 	private final String basePackage;
 	private final Provider provider;
@@ -48,6 +48,19 @@ class Jpa {
 				: loadClass("org.jmolecules.spring.jpa.JakartaPersistenceAssociationAttributeConverter");
 	}
 
+	/**
+	 * Returns the type to be used as base classed for {@code AttributeConverter} implementations for single-value
+	 * {@code Identifier} types.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Class<?> getIdentifierAttributeConverterBaseType() {
+
+		return basePackage.startsWith("javax")
+				? loadClass("org.jmolecules.spring.jpa.JpaIdentifierAttributeConverter")
+				: loadClass("org.jmolecules.spring.jpa.JakartaPersistenceIdentifierAttributeConverter");
+	}
+
 	/**
 	 * Returns the {@code CascadeType.ALL} enum value from the appropriate {@code CascadeType}.
 	 *
@@ -120,11 +133,21 @@ class Jpa {
 			throw new IllegalArgumentException("ClassWorld must not be null!");
 		}
 
-		if (INSTANCE == null) {
-			INSTANCE = createJavaPersistence(world);
+		Optional<Jpa> result = INSTANCE;
+
+		if (result == null) {
+
+			synchronized (Jpa.class) {
+
+				result = INSTANCE;
+
+				if (result == null) {
+					INSTANCE = result = createJavaPersistence(world);
+				}
+			}
 		}
 
-		return INSTANCE;
+		return result;
 	}
 
 	private static Optional<Jpa> createJavaPersistence(ClassWorld world) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A set of packages to match type names against. The packages are parsed once into a sorted array of prefixes that
+ * does not contain any prefix covered by another one, so that a type name can be matched using a single binary
+ * search.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+class PackageFilter {
+
+	private static final PackageFilter NONE = new PackageFilter(new String[0]);
+
+	private final String[] prefixes;
+
+	private PackageFilter(String[] prefixes) {
+		this.prefixes = prefixes;
+	}
+
+	/**
+	 * Creates a new {@link PackageFilter} for the given comma-separated list of package names.
+	 *
+	 * @param packages can be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	static PackageFilter of(String packages) {
+
+		if (packages == null || packages.trim().isEmpty()) {
+			return NONE;
+		}
+
+		String[] candidates = Stream.of(packages.split(","))
+				.map(String::trim)
+				.map(it -> it.endsWith(".") ? it.substring(0, it.length() - 1) : it)
+				.filter(it -> !it.isEmpty())
+				.map(it -> it.concat("."))
+				.sorted()
+				.distinct()
+				.toArray(String[]::new);
+
+		// Drop nested packages as they're already covered by their parent
+		List<String> result = new ArrayList<>(candidates.length);
+
+		for (String candidate : candidates) {
+			if (result.isEmpty() || !candidate.startsWith(result.get(result.size() - 1))) {
+				result.add(candidate);
+			}
+		}
+
+		return new PackageFilter(result.toArray(new String[0]));
+	}
+
+	/**
+	 * Returns whether no packages were configured.
+	 *
+	 * @return
+	 */
+	boolean isEmpty() {
+		return prefixes.length == 0;
+	}
+
+	/**
+	 * Returns whether the type with the given fully-qualified name resides in one of the packages or one of their
+	 * sub-packages.
+	 *
+	 * @param typeName must not be {@literal null}.
+	 * @return
+	 */
+	boolean matches(String typeName) {
+
+		if (prefixes.length == 0) {
+			return false;
+		}
+
+		int index = Arrays.binarySearch(prefixes, typeName);
+
+		// The only prefix that can match is the greatest one not greater than the type name
+		int candidate = index >= 0 ? index : -index - 2;
+
+		return candidate >= 0 && typeName.startsWith(prefixes[candidate]);
+	}
+}
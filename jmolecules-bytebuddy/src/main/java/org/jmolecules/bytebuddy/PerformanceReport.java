@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+
+/**
+ * Records the time spent by the delegates of {@link JMoleculesPlugin} in {@link Plugin#matches(Object)},
+ * {@link Plugin.WithPreprocessor#onPreprocess(TypeDescription, net.bytebuddy.dynamic.ClassFileLocator)} and
+ * {@link Plugin#apply(net.bytebuddy.dynamic.DynamicType.Builder, TypeDescription, net.bytebuddy.dynamic.ClassFileLocator)}
+ * and reports them to the log and a JSON file next to the output folder at the end of the build. Enabled by setting
+ * {@code bytebuddy.report} to {@code true}. Note that ByteBuddy only generates the byte code of a transformed type
+ * once it writes its class file, so that the time spent doing so is not attributed to any plugin.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+@Slf4j
+class PerformanceReport {
+
+	private static final int SLOWEST_TYPES = 10;
+
+	private final File reportFile;
+	private final boolean enabled;
+	private final long started = System.nanoTime();
+
+	private final Map<String, PluginTimings> plugins = new ConcurrentSkipListMap<>();
+	private final Map<String, LongAdder> types = new ConcurrentHashMap<>();
+	private final AtomicInteger transformed = new AtomicInteger();
+
+	/**
+	 * Creates a new {@link PerformanceReport} for the given output folder and {@link JMoleculesConfiguration}.
+	 *
+	 * @param outputFolder must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	PerformanceReport(File outputFolder, JMoleculesConfiguration configuration) {
+
+		if (outputFolder == null) {
+			throw new IllegalArgumentException("Output folder must not be null!");
+		}
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		this.reportFile = new File(outputFolder.getAbsoluteFile().getParentFile(),
+				"jmolecules-bytebuddy-" + outputFolder.getName() + "-report.json");
+		this.enabled = configuration.supportsPerformanceReport();
+	}
+
+	/**
+	 * Registers the given type as transformed.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	void transformed(TypeDescription type) {
+
+		if (enabled) {
+			transformed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Invokes the given callback and attributes the time spent to the given plugin, phase and type.
+	 *
+	 * @param plugin must not be {@literal null}.
+	 * @param phase must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 */
+	<T> T measure(Plugin plugin, Phase phase, TypeDescription type, Supplier<T> callback) {
+
+		if (!enabled) {
+			return callback.get();
+		}
+
+		long start = System.nanoTime();
+		T result = callback.get();
+		long duration = System.nanoTime() - start;
+
+		PluginTimings timings = plugins.computeIfAbsent(plugin.getClass().getSimpleName(), __ -> new PluginTimings());
+		timings.record(phase, duration);
+
+		if (phase == Phase.MATCHES && Boolean.TRUE.equals(result)) {
+			timings.matched.incrementAndGet();
+		}
+
+		types.computeIfAbsent(type.getName(), __ -> new LongAdder()).add(duration);
+
+		return result;
+	}
+
+	/**
+	 * Logs the report and writes it to the report file.
+	 */
+	void write() {
+
+		if (!enabled) {
+			return;
+		}
+
+		long elapsed = System.nanoTime() - started;
+		List<Entry<String, Long>> slowest = getSlowestTypes();
+
+		log.info("jMolecules - Performance report ({} ms elapsed, {} types transformed):", format(elapsed),
+				transformed.get());
+
+		plugins.forEach((name, timings) -> {
+			log.info("jMolecules - {}: matches {} ms, preprocess {} ms, probe {} ms, apply {} ms ({} matching types).", name,
+					format(timings.get(Phase.MATCHES)), format(timings.get(Phase.PREPROCESS)), format(timings.get(Phase.PROBE)),
+					format(timings.get(Phase.APPLY)), timings.matched.get());
+		});
+
+		if (!slowest.isEmpty()) {
+
+			log.info("jMolecules - Slowest types:");
+			slowest.forEach(it -> log.info("jMolecules - {}: {} ms.", it.getKey(), format(it.getValue())));
+		}
+
+		try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(toJson(elapsed, slowest));
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		log.info("jMolecules - Wrote performance report to {}.", reportFile.getAbsolutePath());
+	}
+
+	private String toJson(long elapsed, List<Entry<String, Long>> slowest) {
+
+		String pluginsJson = plugins.entrySet().stream()
+				.map(it -> {
+
+					PluginTimings timings = it.getValue();
+
+					return String.format(Locale.ENGLISH,
+							"    { \"name\": \"%s\", \"matches\": %s, \"preprocess\": %s, \"probe\": %s, \"apply\": %s, \"matchedTypes\": %d }",
+							escape(it.getKey()), format(timings.get(Phase.MATCHES)), format(timings.get(Phase.PREPROCESS)),
+							format(timings.get(Phase.PROBE)), format(timings.get(Phase.APPLY)), timings.matched.get());
+				})
+				.collect(Collectors.joining(",\n"));
+
+		String slowestJson = slowest.stream()
+				.map(it -> String.format("    { \"name\": \"%s\", \"time\": %s }", escape(it.getKey()),
+						format(it.getValue())))
+				.collect(Collectors.joining(",\n"));
+
+		return "{\n" //
+				+ "  \"unit\": \"ms\",\n" //
+				+ "  \"elapsed\": " + format(elapsed) + ",\n" //
+				+ "  \"transformedTypes\": " + transformed.get() + ",\n" //
+				+ "  \"plugins\": [\n" + pluginsJson + "\n  ],\n" //
+				+ "  \"slowestTypes\": [\n" + slowestJson + "\n  ]\n" //
+				+ "}\n";
+	}
+
+	private List<Entry<String, Long>> getSlowestTypes() {
+
+		return types.entrySet().stream()
+				.map(it -> Map.entry(it.getKey(), it.getValue().sum()))
+				.sorted(Entry.<String, Long> comparingByValue(Comparator.reverseOrder()))
+				.limit(SLOWEST_TYPES)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Escapes the given {@link String} to be used as JSON string value.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static String escape(String source) {
+
+		StringBuilder builder = new StringBuilder(source.length());
+
+		for (char c : source.toCharArray()) {
+
+			switch (c) {
+				case '"':
+				case '\\':
+					builder.append('\\').append(c);
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					} else {
+						builder.append(c);
+					}
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static String format(long nanos) {
+		return String.format(Locale.ENGLISH, "%.3f", nanos / 1_000_000d);
+	}
+
+	enum Phase {
+
+		MATCHES, PREPROCESS,
+
+		/**
+		 * Applying the plugins to a probe to detect whether they would change a type at all, see
+		 * {@code bytebuddy.skip-no-ops}.
+		 */
+		PROBE,
+
+		/**
+		 * Applying the plugins to the {@link net.bytebuddy.dynamic.DynamicType.Builder} of a type. As builders are lazy,
+		 * this mostly measures composing the transformations, not generating the byte code.
+		 */
+		APPLY;
+	}
+
+	private static class PluginTimings {
+
+		private final Map<Phase, LongAdder> timings = new ConcurrentHashMap<>();
+		private final AtomicInteger matched = new AtomicInteger();
+
+		void record(Phase phase, long duration) {
+
+			timings.computeIfAbsent(phase, __ -> new LongAdder()).add(duration);
+		}
+
+		long get(Phase phase) {
+
+			LongAdder adder = timings.get(phase);
+
+			return adder == null ? 0 : adder.sum();
+		}
+	}
+}
@@ -18,7 +18,6 @@ package org.jmolecules.bytebuddy;
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.jmolecules.bytebuddy.PluginUtils.*;
 
-import lombok.RequiredArgsConstructor;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.Advice;
@@ -34,10 +33,16 @@ import net.bytebuddy.description.type.TypeDescription.Generic;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.matcher.ElementMatcher.Junction;
 import net.bytebuddy.matcher.ElementMatchers;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 import org.jmolecules.bytebuddy.PluginLogger.Log;
 import org.jmolecules.spring.data.MutablePersistable;
@@ -48,7 +53,6 @@ import org.springframework.util.ReflectionUtils;
 /**
  * @author Oliver Drotbohm
  */
-@RequiredArgsConstructor(staticName = "of")
 class PersistableImplementor extends EntityImplementor {
 
 	static final String GET_ID_METHOD = "getId";
@@ -58,6 +62,17 @@ class PersistableImplementor extends EntityImplementor {
 
 	private final PersistableOptions options;
 
+	private PersistableImplementor(PersistableOptions options) {
+
+		super(options.getIsNewPropertyAnnotation());
+
+		this.options = options;
+	}
+
+	static PersistableImplementor of(PersistableOptions options) {
+		return new PersistableImplementor(options);
+	}
+
 	JMoleculesTypeBuilder implementPersistable(JMoleculesTypeBuilder type, Log log) {
 
 		if (type.isAssignableTo(Persistable.class)) {
@@ -66,12 +81,55 @@ class PersistableImplementor extends EntityImplementor {
 
 		return implementEntity(type, log)
 				.findIdField()
-				.map(field -> {
+				.map(field -> findVersionField(type)
+						.map(version -> type.map((it, logger) -> implementVersionedPersistable(it, field, version, logger)))
+						.orElseGet(() -> type.map(it -> implementPersistable(it, field))
+								.mapBuilder(__ -> options.hasCallbackAnnotations(), this::generateAnnotationCallbacks)))
+				.orElse(type);
+	}
+
+	/**
+	 * Implements {@link Persistable} deriving the {@link Persistable#isNew()} state from the given version field. That
+	 * neither requires an additional field to track the state, nor a callback to flip it on load.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param idField must not be {@literal null}.
+	 * @param versionField must not be {@literal null}.
+	 * @param log must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private JMoleculesTypeBuilder implementVersionedPersistable(JMoleculesTypeBuilder type, InDefinedShape idField,
+			InDefinedShape versionField, Log log) {
+
+		if (type.isAssignableTo(Persistable.class)) {
+			return type;
+		}
 
-					return type.map(it -> implementPersistable(it, field))
-							.mapBuilder(__ -> options.hasCallbackAnnotations(), this::generateAnnotationCallbacks);
+		log.info("Deriving isNew() from version field {}.", versionField.getName());
 
-				}).orElse(type);
+		return type.implement(Persistable.class, idField.getType())
+				.mapBuilder(it -> !it.hasMethod(hasMethodName(GET_ID_METHOD)), it -> generateGetIdMethod(it, idField))
+				.mapBuilder(it -> !it.hasMethod(hasMethodName(IS_NEW_METHOD)),
+						it -> generateVersionBasedIsNewMethod(it, versionField));
+	}
+
+	/**
+	 * Returns the numeric field annotated with the configured version annotation, if any.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<InDefinedShape> findVersionField(JMoleculesTypeBuilder type) {
+
+		if (!options.hasVersionAnnotation()) {
+			return Optional.empty();
+		}
+
+		return type.getTypeDescription().getDeclaredFields()
+				.filter(isAnnotatedWith(options.getVersionAnnotation()))
+				.filter(it -> isNumeric(it.getType().asErasure()))
+				.stream()
+				.findFirst();
 	}
 
 	private JMoleculesTypeBuilder implementPersistable(JMoleculesTypeBuilder type, InDefinedShape field) {
@@ -138,6 +196,25 @@ class PersistableImplementor extends EntityImplementor {
 				.intercept(FieldAccessor.ofField(IS_NEW_FIELD));
 	}
 
+	private Builder<?> generateVersionBasedIsNewMethod(Builder<?> builder, InDefinedShape versionField) {
+
+		// Primitive versions start with 0, wrapper types with null
+		Class<?> advice = versionField.getType().isPrimitive() ? ZeroVersionIsNew.class : NullVersionIsNew.class;
+
+		return builder.defineMethod(IS_NEW_METHOD, boolean.class, Visibility.PUBLIC)
+				.intercept(Advice.withCustomMapping()
+						.bind(VersionValue.class, versionField)
+						.to(advice)
+						.wrap(StubMethod.INSTANCE));
+	}
+
+	private static boolean isNumeric(TypeDescription type) {
+
+		return type.isPrimitive()
+				? !type.represents(boolean.class) && !type.represents(char.class)
+				: type.isAssignableTo(Number.class);
+	}
+
 	private DynamicType createCallbackComponent(TypeDescription typeDescription) {
 
 		Generic callbackType = Generic.Builder
@@ -150,6 +227,29 @@ class PersistableImplementor extends EntityImplementor {
 				.make();
 	}
 
+	/**
+	 * Binds the value of the version field of the aggregate to the annotated advice parameter.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.PARAMETER)
+	@interface VersionValue {}
+
+	public static class NullVersionIsNew {
+
+		@OnMethodExit
+		public static void isNew(@VersionValue Object version, @Return(readOnly = false) boolean result) {
+			result = version == null;
+		}
+	}
+
+	public static class ZeroVersionIsNew {
+
+		@OnMethodExit
+		public static void isNew(@VersionValue Number version, @Return(readOnly = false) boolean result) {
+			result = version.longValue() == 0;
+		}
+	}
+
 	public static class IsNewInitializer {
 
 		@OnMethodExit
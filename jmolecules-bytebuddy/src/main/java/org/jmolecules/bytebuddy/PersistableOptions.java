@@ -34,23 +34,28 @@ class PersistableOptions {
 	@NonNull Class<? extends Annotation> isNewPropertyAnnotation;
 	@With Class<?> callbackInterface;
 	Class<? extends Annotation>[] callbackAnnotations;
+	@With Class<? extends Annotation> versionAnnotation;
 
 	@SuppressWarnings("unchecked")
 	public static PersistableOptions of(Class<? extends Annotation> isNewPropertyAnnotation) {
 		return new PersistableOptions(isNewPropertyAnnotation, null, (Class<? extends Annotation>[]) Array
-				.newInstance(Class.class, 0));
+				.newInstance(Class.class, 0), null);
 	}
 
 	boolean hasCallbackInterface() {
 		return callbackInterface != null;
 	}
 
+	boolean hasVersionAnnotation() {
+		return versionAnnotation != null;
+	}
+
 	boolean hasCallbackAnnotations() {
 		return callbackAnnotations.length > 0;
 	}
 
 	@SafeVarargs
 	public final PersistableOptions withCallbackAnnotations(Class<? extends Annotation>... callbackAnnotations) {
-		return new PersistableOptions(isNewPropertyAnnotation, callbackInterface, callbackAnnotations);
+		return new PersistableOptions(isNewPropertyAnnotation, callbackInterface, callbackAnnotations, versionAnnotation);
 	}
 }
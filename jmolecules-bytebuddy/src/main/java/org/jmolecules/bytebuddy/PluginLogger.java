@@ -15,19 +15,24 @@
  */
 package org.jmolecules.bytebuddy;
 
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.description.type.TypeDescription;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
- * Logger to aggregate information about transformations applied to individual {@link TypeDescription}s.
+ * Logger to aggregate information about transformations applied to individual {@link TypeDescription}s. By default, all
+ * entries are kept until {@link #flush()} is called at the end of the build. In streaming mode, the entries of a type
+ * are written as soon as the thread that transformed it moves on to the next type, so that only the entries of the
+ * types currently in flight are kept in memory. The {@link Settings} are handed in by the plugins using the logger, so
+ * that plugin instances configured differently (e.g. for different modules built in the same JVM) do not affect each
+ * other.
  *
  * @author Oliver Drotbohm
  */
@@ -36,16 +41,21 @@ enum PluginLogger {
 
 	INSTANCE;
 
-	private Map<String, Set<LogEntry>> logs = new ConcurrentSkipListMap<>();
+	private static final Log NO_OP = (message, parameters) -> {};
+
+	private final Map<String, Set<LogEntry>> logs = new ConcurrentSkipListMap<>();
+	private final Set<String> streamed = ConcurrentHashMap.newKeySet();
+	private final ThreadLocal<String> current = new ThreadLocal<>();
 
 	/**
 	 * Obtains the {@link Log} for the given {@link TypeDescription} and module name.
 	 *
 	 * @param description must not be {@literal null}.
 	 * @param name must not be {@literal null} or empty.
+	 * @param settings the {@link Settings} of the plugin obtaining the {@link Log}, must not be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
-	public Log getLog(TypeDescription description, String name) {
+	public Log getLog(TypeDescription description, String name, Settings settings) {
 
 		if (description == null) {
 			throw new IllegalArgumentException("TypeDescription must not be null!");
@@ -55,57 +65,207 @@ enum PluginLogger {
 			throw new IllegalArgumentException("Module name must not be null or empty!");
 		}
 
-		Set<LogEntry> moduleLogs = logs.computeIfAbsent(description.getName(), it -> new TreeSet<>());
+		if (settings == null) {
+			throw new IllegalArgumentException("Settings must not be null!");
+		}
 
-		return (message, parameters) -> moduleLogs.add(new LogEntry(name, message, parameters));
-	}
+		Verbosity verbosity = settings.verbosity;
 
-	public void flush() {
+		if (verbosity == Verbosity.NONE) {
+			return NO_OP;
+		}
 
-		try {
+		Set<LogEntry> moduleLogs = logs.computeIfAbsent(description.getName(), it -> new ConcurrentSkipListSet<>());
 
-			if (!logs.isEmpty()) {
-				log.info("");
+		return new Log() {
+
+			@Override
+			public void info(String message, Object... parameters) {
+				moduleLogs.add(new LogEntry(name, message, parameters));
 			}
 
-			logs.forEach((description, moduleLogs) -> {
+			@Override
+			public void detail(String message, Object... parameters) {
 
-				if (moduleLogs.isEmpty()) {
-					return;
+				if (verbosity == Verbosity.FULL) {
+					info(message, parameters);
 				}
+			}
+		};
+	}
+
+	/**
+	 * Signals that the current thread is about to transform the given type. In streaming mode, this writes the entries
+	 * of the type previously transformed by the current thread, as ByteBuddy completes the transformation of a type in
+	 * the thread that started it.
+	 *
+	 * @param description must not be {@literal null}.
+	 * @param settings the {@link Settings} of the plugin transforming the type, must not be {@literal null}.
+	 * @since 0.34
+	 */
+	void transforming(TypeDescription description, Settings settings) {
+
+		if (settings == null) {
+			throw new IllegalArgumentException("Settings must not be null!");
+		}
 
-				log.info("□─ " + description);
-				int i = 0;
+		if (!settings.streaming) {
+			return;
+		}
 
-				for (LogEntry logEntry : moduleLogs) {
+		String previous = current.get();
+		String name = description.getName();
 
-					String module = logEntry.getModule();
-					String prefix = i + 1 == moduleLogs.size() ? "└─ " : "├─ ";
+		streamed.add(name);
 
-					log.info(String.format("%s%s - %s", prefix, module, logEntry.getMessage()),
-							logEntry.getParameters());
+		if (previous != null && !previous.equals(name)) {
+			flush(previous);
+		}
 
-					i++;
-				}
+		current.set(name);
+	}
 
-				log.info("");
-			});
+	public void flush() {
+
+		current.remove();
+
+		// Separate the entries buffered until the end of the build from the preceding output
+		if (logs.keySet().stream().anyMatch(it -> !streamed.contains(it))) {
+			log.info("");
+		}
+
+		// Remove entries while iterating to not lose entries logged concurrently
+		for (String description : logs.keySet()) {
+			flush(description);
+		}
+	}
+
+	private void flush(String description) {
+
+		Set<LogEntry> moduleLogs = logs.remove(description);
+
+		streamed.remove(description);
+
+		if (moduleLogs == null || moduleLogs.isEmpty()) {
+			return;
+		}
+
+		// Avoid interleaving the output for different types
+		synchronized (this) {
+
+			log.info("□─ " + description);
+
+			int size = moduleLogs.size();
+			int i = 0;
+
+			for (LogEntry logEntry : moduleLogs) {
+
+				String prefix = i + 1 == size ? "└─ " : "├─ ";
+
+				log.info(String.format("%s%s - %s", prefix, logEntry.module, logEntry.message), logEntry.parameters);
+
+				i++;
+			}
 
-		} finally {
-			logs = new TreeMap<>();
+			log.info("");
 		}
 	}
 
 	public interface Log {
+
 		void info(String message, Object... parameters);
+
+		/**
+		 * Logs details about individual members of a type, which are only retained for {@link Verbosity#FULL}.
+		 *
+		 * @param message must not be {@literal null}.
+		 * @param parameters must not be {@literal null}.
+		 * @since 0.34
+		 */
+		default void detail(String message, Object... parameters) {
+			info(message, parameters);
+		}
+	}
+
+	/**
+	 * The amount of information to log about the transformations applied.
+	 *
+	 * @since 0.34
+	 */
+	enum Verbosity {
+
+		/**
+		 * Logs all transformations including the ones applied to individual fields and methods.
+		 */
+		FULL,
+
+		/**
+		 * Logs transformations applied to types only.
+		 */
+		TYPES,
+
+		/**
+		 * Does not log any transformations.
+		 */
+		NONE;
 	}
 
-	@Value
+	/**
+	 * The settings of a plugin using the {@link PluginLogger}.
+	 *
+	 * @since 0.34
+	 */
+	static class Settings {
+
+		/**
+		 * Logs all transformations at the end of the build.
+		 */
+		static final Settings DEFAULT = new Settings(Verbosity.FULL, false);
+
+		private final Verbosity verbosity;
+		private final boolean streaming;
+
+		/**
+		 * Creates new {@link Settings} for the given {@link Verbosity} and whether to write the entries of a type as soon
+		 * as it has been transformed.
+		 *
+		 * @param verbosity must not be {@literal null}.
+		 * @param streaming whether to write the entries of a type as soon as it has been transformed.
+		 */
+		Settings(Verbosity verbosity, boolean streaming) {
+
+			if (verbosity == null) {
+				throw new IllegalArgumentException("Verbosity must not be null!");
+			}
+
+			this.verbosity = verbosity;
+			this.streaming = streaming;
+		}
+	}
+
+	/**
+	 * A log entry ordered by module, message template and the {@link String} representation of its parameters, so that
+	 * the messages only have to be formatted when they are written.
+	 */
 	private static class LogEntry implements Comparable<LogEntry> {
 
-		String module;
-		String message;
-		Object[] parameters;
+		private static final Comparator<LogEntry> COMPARATOR = Comparator
+				.comparing((LogEntry it) -> it.module)
+				.thenComparing(it -> it.message)
+				.thenComparing((left, right) -> Arrays.compare(left.arguments, right.arguments));
+
+		private final String module;
+		private final String message;
+		private final Object[] parameters;
+		private final String[] arguments;
+
+		LogEntry(String module, String message, Object[] parameters) {
+
+			this.module = module;
+			this.message = message;
+			this.parameters = parameters;
+			this.arguments = Arrays.stream(parameters).map(String::valueOf).toArray(String[]::new);
+		}
 
 		/*
 		 * (non-Javadoc)
@@ -113,16 +273,7 @@ enum PluginLogger {
 		 */
 		@Override
 		public int compareTo(LogEntry o) {
-
-			Comparator<LogEntry> comparator = Comparator
-					.comparing(LogEntry::getModule)
-					.thenComparing(LogEntry::getExpandedMessage);
-
-			return comparator.compare(this, o);
-		}
-
-		private String getExpandedMessage() {
-			return String.format(message.replace("{}", "%s"), parameters);
+			return COMPARATOR.compare(this, o);
 		}
 	}
 }
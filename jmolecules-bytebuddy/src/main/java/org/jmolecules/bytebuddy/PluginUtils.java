@@ -34,7 +34,10 @@ import net.bytebuddy.matcher.ElementMatchers;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Target;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -127,7 +130,7 @@ class PluginUtils {
 			boolean matches = source.matches(it);
 
 			if (matches) {
-				logger.info("Defaulting {} mapping to {}.", it.getName(), abbreviate(annotation));
+				logger.detail("Defaulting {} mapping to {}.", it.getName(), abbreviate(annotation));
 			}
 
 			return matches;
@@ -151,6 +154,21 @@ class PluginUtils {
 				.annotateField(idAnnotation);
 	}
 
+	/**
+	 * Returns the hex representation of the SHA-256 digest of the given bytes.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String sha256(byte[] bytes) {
+
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
 	static String abbreviate(Class<?> type) {
 		return abbreviate(type.getName());
 	}
@@ -15,30 +15,47 @@
  */
 package org.jmolecules.bytebuddy;
 
-import net.bytebuddy.NamingStrategy.SuffixingRandom;
+import net.bytebuddy.NamingStrategy.Suffixing;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDescription;
 
 /**
  * A naming strategy that returns a name for a type to be created so that it will be generated into the package of a
- * reference type.
+ * reference type. The names are stable across builds, so that the generated types are reproducible. An optional scope
+ * is appended to the name to tell apart helper types generated into the same package by different build outputs.
  *
  * @author Oliver Drotbohm
  */
-class ReferenceTypePackageNamingStrategy extends SuffixingRandom {
+class ReferenceTypePackageNamingStrategy extends Suffixing {
 
 	ReferenceTypePackageNamingStrategy(TypeDescription contextualType, String suffix) {
+		this(contextualType, contextualType, suffix, null);
+	}
+
+	/**
+	 * Creates a new {@link ReferenceTypePackageNamingStrategy} generating types named after the given naming type into
+	 * the package of the given package type.
+	 *
+	 * @param packageType the type to generate the type into the package of, must not be {@literal null}.
+	 * @param namingType the type to derive the name of the type to be generated from, must not be {@literal null}.
+	 * @param suffix the suffix to append to the name of the naming type, must not be {@literal null}.
+	 * @param scope can be {@literal null}.
+	 */
+	ReferenceTypePackageNamingStrategy(TypeDescription packageType, TypeDescription namingType, String suffix,
+			String scope) {
 
-		super("jMolecules", new Suffixing.BaseNameResolver() {
+		super(scope == null ? "jMolecules" : "jMolecules$".concat(scope), new BaseNameResolver() {
 
 			/*
 			 * (non-Javadoc)
-			 * @see net.bytebuddy.NamingStrategy.SuffixingRandom.BaseNameResolver#resolve(net.bytebuddy.description.type.TypeDescription)
+			 * @see net.bytebuddy.NamingStrategy.Suffixing.BaseNameResolver#resolve(net.bytebuddy.description.type.TypeDescription)
 			 */
 			public String resolve(TypeDescription type) {
 
-				return contextualType.getPackage().getName()
-						.concat(".")
-						.concat(contextualType.getSimpleName() + suffix);
+				PackageDescription pkg = packageType.getPackage();
+				String name = namingType.getSimpleName() + suffix;
+
+				return pkg == null || pkg.getName().isEmpty() ? name : pkg.getName().concat(".").concat(name);
 			}
 		});
 	}
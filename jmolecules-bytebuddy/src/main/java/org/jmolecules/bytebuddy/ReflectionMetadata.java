@@ -0,0 +1,269 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.description.field.FieldDescription.InDefinedShape;
+import net.bytebuddy.description.field.FieldList;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jmolecules.architecture.cqrs.QueryModel;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.jmolecules.ddd.annotation.Identity;
+import org.jmolecules.ddd.types.Identifier;
+
+/**
+ * Collects the members of identifiers, value objects and entities that the jMolecules converters and the Jackson
+ * module access reflectively and writes them as GraalVM {@code reflect-config.json} into the output folder. That is
+ * the static {@code of(…)} factory method, the single-argument constructors, the single field and its accessor of
+ * identifiers and value objects, the identifier field of entities, as well as the command, event and query handler
+ * methods of aggregates and query models (e.g. invoked by the Axon Framework). Entities, as well as identifiers and
+ * value objects not wrapping a single value, are accessed through their public API (e.g. by Jackson) and thus get all
+ * public constructors and methods registered, just like {@code @RegisterReflection} would. Enabled by setting
+ * {@code bytebuddy.native-image.reflect-config} to {@code true}.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+@Slf4j
+class ReflectionMetadata {
+
+	private static final Pattern NAME = Pattern.compile("\"name\": \"([^\"]+)\"");
+	private static final List<String> HANDLER_ANNOTATIONS = Arrays.asList( //
+			"org.jmolecules.architecture.cqrs.CommandHandler", //
+			"org.jmolecules.architecture.cqrs.annotation.CommandHandler", //
+			"org.jmolecules.event.annotation.DomainEventHandler", //
+			"org.axonframework.commandhandling.CommandHandler", //
+			"org.axonframework.eventhandling.EventHandler", //
+			"org.axonframework.eventsourcing.EventSourcingHandler", //
+			"org.axonframework.queryhandling.QueryHandler");
+
+	private final File outputFolder;
+	private final File metadataFile;
+	private final boolean enabled;
+
+	private final Set<String> seen = ConcurrentHashMap.newKeySet();
+	private final Map<String, String> entries = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Creates a new {@link ReflectionMetadata} for the given output folder and {@link JMoleculesConfiguration}.
+	 *
+	 * @param outputFolder must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	ReflectionMetadata(File outputFolder, JMoleculesConfiguration configuration) {
+
+		if (outputFolder == null) {
+			throw new IllegalArgumentException("Output folder must not be null!");
+		}
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		this.outputFolder = outputFolder;
+		this.metadataFile = new File(outputFolder, "META-INF/native-image/jmolecules/"
+				+ JMoleculesConfiguration.detectProjectRoot(outputFolder).getFileName() + "/reflect-config.json");
+		this.enabled = configuration.supportsNativeImage() && configuration.supportsReflectConfig();
+	}
+
+	/**
+	 * Returns whether the metadata is collected at all.
+	 *
+	 * @return
+	 */
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Registers the given type as handed to the plugin in the current build.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	void seen(TypeDescription type) {
+
+		if (enabled) {
+			seen.add(type.getName());
+		}
+	}
+
+	/**
+	 * Adds the reflectively accessed members of the given type to the metadata.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param classifications must not be {@literal null}.
+	 */
+	void add(TypeDescription type, TypeClassification.Cache classifications) {
+
+		if (!enabled) {
+			return;
+		}
+
+		TypeClassification classification = classifications.classify(type);
+
+		Set<String> fields = new TreeSet<>();
+		Set<String> methods = new TreeSet<>();
+		boolean publicMembers = classification.isEntity();
+
+		if (classification.isIdentifier() || classification.isValueObject()) {
+
+			FieldList<InDefinedShape> candidates = type.getDeclaredFields().filter(not(isStatic()));
+
+			if (candidates.size() == 1) {
+
+				String name = candidates.getOnly().getName();
+				String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+				fields.add(toJson(name));
+
+				type.getDeclaredMethods()
+						.filter(isStatic().and(named("of")).and(takesArguments(1))
+								.or(isConstructor().and(takesArguments(1)))
+								.or(not(isStatic()).and(takesArguments(0)).and(named(name).or(named(getter)))))
+						.forEach(it -> methods.add(toJson(it)));
+
+			} else {
+				publicMembers = true;
+			}
+		}
+
+		if (classification.isEntity()) {
+
+			type.getDeclaredFields()
+					.filter(not(isStatic()).and(fieldType(isSubTypeOf(Identifier.class)).or(isAnnotatedWith(Identity.class))))
+					.forEach(it -> fields.add(toJson(it.getName())));
+		}
+
+		if (classification.isAggregateRoot() || classification.isAnnotatedWithOrAssignableTo(QueryModel.class)
+				|| classification.isAnnotatedWithOrAssignableTo(org.jmolecules.architecture.cqrs.annotation.QueryModel.class)) {
+
+			MethodList<MethodDescription.InDefinedShape> handlers = type.getDeclaredMethods()
+					.filter(isAnnotatedWith(namedOneOf(HANDLER_ANNOTATIONS.toArray(new String[0]))));
+
+			handlers.forEach(it -> methods.add(toJson(it)));
+
+			// Event-sourced aggregates are instantiated via their default constructor
+			if (!handlers.isEmpty()) {
+				type.getDeclaredMethods().filter(isDefaultConstructor()).forEach(it -> methods.add(toJson(it)));
+			}
+		}
+
+		if (fields.isEmpty() && methods.isEmpty() && !publicMembers) {
+			return;
+		}
+
+		entries.put(type.getName(), String.format("  { \"name\": \"%s\", %s\"fields\": [ %s ], \"methods\": [ %s ] }",
+				type.getName(), publicMembers ? "\"allPublicConstructors\": true, \"allPublicMethods\": true, " : "",
+				String.join(", ", fields), String.join(", ", methods)));
+	}
+
+	/**
+	 * Writes the metadata for all registered types, retaining the entries of a previous build for types not handed to
+	 * the plugin in the current one.
+	 */
+	void write() {
+
+		if (!enabled) {
+			return;
+		}
+
+		Map<String, String> result = new ConcurrentSkipListMap<>(entries);
+
+		readPreviousEntries().forEach((name, entry) -> {
+			if (!seen.contains(name) && new File(outputFolder, name.replace('.', File.separatorChar) + ".class").exists()) {
+				result.putIfAbsent(name, entry);
+			}
+		});
+
+		String content = result.isEmpty() ? "[]\n" : "[\n" + String.join(",\n", result.values()) + "\n]\n";
+
+		try {
+
+			Files.createDirectories(metadataFile.getParentFile().toPath());
+			Files.write(metadataFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		log.info("jMolecules - Wrote reflection metadata for {} types to {}.", result.size(),
+				metadataFile.getAbsolutePath());
+	}
+
+	private Map<String, String> readPreviousEntries() {
+
+		if (!metadataFile.exists()) {
+			return Map.of();
+		}
+
+		try {
+
+			List<String> lines = Files.readAllLines(metadataFile.toPath(), StandardCharsets.UTF_8);
+
+			// One entry per line, the first name being the one of the type
+			return lines.stream()
+					.filter(it -> it.trim().startsWith("{"))
+					.map(it -> it.endsWith(",") ? it.substring(0, it.length() - 1) : it)
+					.collect(Collectors.toMap(it -> {
+
+						Matcher matcher = NAME.matcher(it);
+
+						return matcher.find() ? matcher.group(1) : it;
+
+					}, it -> it, (left, right) -> right));
+
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	private static String toJson(String fieldName) {
+		return String.format("{ \"name\": \"%s\" }", fieldName);
+	}
+
+	private static String toJson(MethodDescription method) {
+
+		String parameterTypes = method.getParameters().asTypeList().asErasures().stream()
+				.map(TypeDefinition::getTypeName)
+				.map(it -> "\"" + it + "\"")
+				.collect(Collectors.joining(", "));
+
+		return String.format("{ \"name\": \"%s\", \"parameterTypes\": [ %s ] }", method.getInternalName(),
+				parameterTypes);
+	}
+}
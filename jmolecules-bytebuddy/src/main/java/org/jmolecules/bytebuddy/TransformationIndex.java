@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeDescription.Generic;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+
+/**
+ * A persistent index of the types seen by {@link JMoleculesPlugin} that allows to skip the transformation of types that
+ * have not changed since the previous build. For each type, the index stores the hash of the class file as written by
+ * the previous build and the delegate plugins that matched it. A type is considered unchanged if its class file still
+ * has the recorded hash, it is matched by the same plugins and all project types it refers to (super types and field
+ * types) or that refer to it have not changed either.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+@Slf4j
+class TransformationIndex {
+
+	private static final String FINGERPRINT_KEY = "jmolecules.fingerprint";
+
+	private final File outputFolder;
+	private final File indexFile;
+	private final boolean enabled;
+	private final String fingerprint;
+
+	private final Map<String, Entry> previous;
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+	private final Map<String, String> currentHashes = new ConcurrentHashMap<>();
+	private final AtomicInteger skipped = new AtomicInteger();
+	private volatile Map<String, Set<String>> dependents;
+
+	/**
+	 * Creates a new {@link TransformationIndex} for the given output folder and {@link JMoleculesConfiguration}.
+	 *
+	 * @param outputFolder must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	TransformationIndex(File outputFolder, JMoleculesConfiguration configuration) {
+
+		if (outputFolder == null) {
+			throw new IllegalArgumentException("Output folder must not be null!");
+		}
+
+		if (configuration == null) {
+			throw new IllegalArgumentException("JMoleculesConfiguration must not be null!");
+		}
+
+		this.outputFolder = outputFolder;
+		this.indexFile = new File(outputFolder.getAbsoluteFile().getParentFile(),
+				"jmolecules-bytebuddy-" + outputFolder.getName() + ".index");
+		this.enabled = configuration.supportsIncrementalBuilds();
+		this.fingerprint = configuration.getFingerprint() + "-"
+				+ JMoleculesPlugin.class.getPackage().getImplementationVersion();
+		this.previous = enabled ? loadIndex() : Collections.emptyMap();
+	}
+
+	/**
+	 * Registers the given type and the plugins it was matched by.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param plugins must not be {@literal null}.
+	 */
+	void register(TypeDescription type, List<? extends Plugin> plugins) {
+
+		if (!enabled) {
+			return;
+		}
+
+		registrations.put(type.getName(), new Registration(getProjectDependencies(type), getNames(plugins)));
+	}
+
+	/**
+	 * Returns whether the given type and all types related to it are unchanged since the previous build, so that the
+	 * transformation of it can be skipped.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param plugins the plugins currently matching the given type, must not be {@literal null}.
+	 * @return whether the given type can be skipped.
+	 */
+	boolean isUnchanged(TypeDescription type, List<? extends Plugin> plugins) {
+
+		if (!enabled) {
+			return false;
+		}
+
+		String name = type.getName();
+		Entry entry = previous.get(name);
+
+		if (entry == null || !entry.plugins.equals(getNames(plugins)) || !hasRecordedHash(name)) {
+			return false;
+		}
+
+		Registration registration = registrations.get(name);
+
+		if (registration == null) {
+			return false;
+		}
+
+		boolean unchanged = Stream
+				.concat(registration.dependencies.stream(),
+						getDependents().getOrDefault(name, Collections.emptySet()).stream())
+				.allMatch(this::hasRecordedHash);
+
+		if (unchanged) {
+			skipped.incrementAndGet();
+		}
+
+		return unchanged;
+	}
+
+	/**
+	 * Writes the index for all registered types based on the class files currently present in the output folder.
+	 */
+	void write() {
+
+		if (!enabled) {
+			return;
+		}
+
+		Properties properties = new Properties();
+		properties.setProperty(FINGERPRINT_KEY, fingerprint);
+
+		// Retain entries for types not handed to the plugin in this build
+		previous.forEach((name, entry) -> {
+
+			if (!registrations.containsKey(name) && getClassFile(name).exists()) {
+				properties.setProperty(name, entry.hash + ";" + String.join(",", entry.plugins));
+			}
+		});
+
+		registrations.forEach((name, registration) -> {
+
+			String hash = hash(name);
+
+			if (hash != null) {
+				properties.setProperty(name, hash + ";" + String.join(",", registration.plugins));
+			}
+		});
+
+		try (OutputStream stream = new FileOutputStream(indexFile)) {
+			properties.store(stream, "jMolecules ByteBuddy transformation index");
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		log.info("jMolecules - Skipped {} unchanged types, wrote transformation index for {} types to {}.", skipped.get(),
+				registrations.size(), indexFile.getAbsolutePath());
+	}
+
+	private Map<String, Entry> loadIndex() {
+
+		if (!indexFile.exists()) {
+			return Collections.emptyMap();
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream stream = new FileInputStream(indexFile)) {
+			properties.load(stream);
+		} catch (IOException o_O) {
+
+			log.info("jMolecules - Unable to read transformation index {}, transforming all types.", indexFile);
+			return Collections.emptyMap();
+		}
+
+		if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+
+			log.info("jMolecules - Configuration changed since the previous build, transforming all types.");
+			return Collections.emptyMap();
+		}
+
+		return properties.stringPropertyNames().stream()
+				.filter(it -> !it.equals(FINGERPRINT_KEY))
+				.collect(Collectors.toMap(it -> it, it -> Entry.parse(properties.getProperty(it))));
+	}
+
+	private boolean hasRecordedHash(String name) {
+
+		Entry entry = previous.get(name);
+
+		return entry != null && entry.hash.equals(currentHashes.computeIfAbsent(name, this::hash));
+	}
+
+	/**
+	 * Returns the reverse dependencies of all registered types. Only safe to call once all types have been registered,
+	 * i.e. after preprocessing has completed.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private Map<String, Set<String>> getDependents() {
+
+		Map<String, Set<String>> result = dependents;
+
+		if (result == null) {
+
+			synchronized (this) {
+
+				result = dependents;
+
+				if (result == null) {
+
+					Map<String, Set<String>> computed = new HashMap<>();
+
+					registrations.forEach((name, registration) -> registration.dependencies
+							.forEach(it -> computed.computeIfAbsent(it, __ -> new HashSet<>()).add(name)));
+
+					dependents = result = computed;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private Set<String> getProjectDependencies(TypeDescription type) {
+
+		Set<String> candidates = new HashSet<>();
+
+		for (TypeDefinition current = type; current != null; current = current.getSuperClass()) {
+
+			candidates.add(current.asErasure().getName());
+			current.getInterfaces().forEach(it -> collectTypeNames(it, candidates));
+		}
+
+		type.getDeclaredFields().forEach(it -> collectTypeNames(it.getType(), candidates));
+		candidates.remove(type.getName());
+
+		return candidates.stream()
+				.filter(it -> getClassFile(it).exists())
+				.collect(Collectors.toSet());
+	}
+
+	private static void collectTypeNames(Generic type, Set<String> names) {
+
+		switch (type.getSort()) {
+
+			case PARAMETERIZED:
+				names.add(type.asErasure().getName());
+				type.getTypeArguments().forEach(it -> collectTypeNames(it, names));
+				break;
+
+			case GENERIC_ARRAY:
+				collectTypeNames(type.getComponentType(), names);
+				break;
+
+			case NON_GENERIC:
+				names.add(type.isArray() ? type.asErasure().getComponentType().getName() : type.asErasure().getName());
+				break;
+
+			default:
+				// Type variables and wildcards
+		}
+	}
+
+	private String hash(String name) {
+
+		File classFile = getClassFile(name);
+
+		if (!classFile.exists()) {
+			return null;
+		}
+
+		try {
+			return PluginUtils.sha256(Files.readAllBytes(classFile.toPath()));
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	private File getClassFile(String name) {
+		return new File(outputFolder, name.replace('.', File.separatorChar).concat(".class"));
+	}
+
+	private static List<String> getNames(List<? extends Plugin> plugins) {
+
+		return plugins.stream()
+				.map(it -> it.getClass().getSimpleName())
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	@Value
+	private static class Registration {
+		Set<String> dependencies;
+		List<String> plugins;
+	}
+
+	@Value
+	private static class Entry {
+
+		String hash;
+		List<String> plugins;
+
+		static Entry parse(String source) {
+
+			String[] parts = source.split(";", -1);
+			List<String> plugins = parts.length < 2 || parts[1].isEmpty()
+					? Collections.emptyList()
+					: Stream.of(parts[1].split(",")).collect(Collectors.toList());
+
+			return new Entry(parts[0], plugins);
+		}
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeDescription.Generic;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Entity;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.ddd.types.ValueObject;
+
+/**
+ * The jMolecules roles of a {@link TypeDescription} computed in a single pass over its type hierarchy and
+ * (meta-)annotations. Instances are obtained from a {@link Cache} that is shared between all plugins participating in
+ * a build, so that each type is only inspected once, no matter how many plugins ask about it.
+ *
+ * @author Oliver Drotbohm
+ * @since 0.34
+ */
+class TypeClassification {
+
+	private final TypeDescription type;
+	private final Set<String> superTypes;
+	private final Set<String> annotations;
+	private final Set<String> declaredAnnotations;
+	private final boolean entity, aggregateRoot, valueObject, identifier, association, jMoleculesType;
+
+	private TypeClassification(TypeDescription type, Cache cache) {
+
+		this.type = type;
+		this.superTypes = collectSuperTypes(type);
+		this.annotations = collectAnnotations(type);
+		this.declaredAnnotations = getNames(type.getDeclaredAnnotations().asTypeList().stream());
+
+		this.entity = hasOrImplements(Entity.class, org.jmolecules.ddd.annotation.Entity.class);
+		this.aggregateRoot = hasOrImplements(AggregateRoot.class, org.jmolecules.ddd.annotation.AggregateRoot.class);
+		this.valueObject = hasOrImplements(ValueObject.class, org.jmolecules.ddd.annotation.ValueObject.class);
+		this.identifier = isAssignableTo(Identifier.class);
+		this.association = isAssignableTo(Association.class);
+		this.jMoleculesType = detectJMoleculesType(type, cache);
+	}
+
+	/**
+	 * Returns whether the type is an entity, i.e. implements {@link Entity} or is (meta-)annotated with
+	 * {@link org.jmolecules.ddd.annotation.Entity}.
+	 *
+	 * @return
+	 */
+	public boolean isEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns whether the type is an aggregate root, i.e. implements {@link AggregateRoot} or is (meta-)annotated with
+	 * {@link org.jmolecules.ddd.annotation.AggregateRoot}.
+	 *
+	 * @return
+	 */
+	public boolean isAggregateRoot() {
+		return aggregateRoot;
+	}
+
+	/**
+	 * Returns whether the type is a value object, i.e. implements {@link ValueObject} or is (meta-)annotated with
+	 * {@link org.jmolecules.ddd.annotation.ValueObject}.
+	 *
+	 * @return
+	 */
+	public boolean isValueObject() {
+		return valueObject;
+	}
+
+	public boolean isIdentifier() {
+		return identifier;
+	}
+
+	public boolean isAssociation() {
+		return association;
+	}
+
+	/**
+	 * Returns whether the type or one of its superclasses directly implements a jMolecules interface or is annotated
+	 * with a jMolecules annotation. Records are always considered jMolecules types.
+	 *
+	 * @return
+	 */
+	public boolean isJMoleculesType() {
+		return jMoleculesType;
+	}
+
+	/**
+	 * Returns whether the type is assignable to the given one.
+	 *
+	 * @param candidate must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isAssignableTo(Class<?> candidate) {
+
+		return superTypes == null
+				? type.isAssignableTo(candidate)
+				: candidate.equals(Object.class) || superTypes.contains(candidate.getName());
+	}
+
+	/**
+	 * Returns whether the type is annotated with the given annotation, either directly or via a meta-annotation.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @return
+	 * @see JMoleculesElementMatchers#hasAnnotation(TypeDescription, Class)
+	 */
+	public boolean hasAnnotation(Class<? extends Annotation> annotation) {
+		return annotations.contains(annotation.getName());
+	}
+
+	/**
+	 * Returns whether the type is directly annotated with the given type.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @return
+	 * @see PluginUtils#isAnnotatedWith(TypeDescription, Class)
+	 */
+	public boolean isAnnotatedWith(Class<?> annotation) {
+		return annotation.isAnnotation() && declaredAnnotations.contains(annotation.getName());
+	}
+
+	/**
+	 * Returns whether the type is directly annotated with the given type if it is an annotation or is assignable to it
+	 * otherwise.
+	 *
+	 * @param candidate must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isAnnotatedWithOrAssignableTo(Class<?> candidate) {
+		return candidate.isAnnotation() ? isAnnotatedWith(candidate) : isAssignableTo(candidate);
+	}
+
+	/**
+	 * Returns whether the type implements the given type or is (meta-)annotated with it.
+	 *
+	 * @param types either interfaces or annotations, must not be {@literal null}.
+	 * @return
+	 * @see JMoleculesType#hasOrImplements(Class...)
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean hasOrImplements(Class<?>... types) {
+
+		return Stream.of(types).anyMatch(it -> it.isAnnotation() && hasAnnotation((Class<? extends Annotation>) it)
+				|| isAssignableTo(it));
+	}
+
+	private static boolean detectJMoleculesType(TypeDescription type, Cache cache) {
+
+		if (type.isAnnotation() || PluginUtils.isCglibProxyType(type)) {
+			return false;
+		}
+
+		boolean implementsJMoleculesInterface = type.getInterfaces().stream()
+				.anyMatch(it -> it.asErasure().getName().startsWith("org.jmolecules"));
+
+		boolean hasJMoleculesAnnotation = Stream
+				.concat(type.getDeclaredAnnotations().stream(), type.getInheritedAnnotations().stream())
+				.anyMatch(it -> it.getAnnotationType().getName().startsWith("org.jmolecules"));
+
+		if (implementsJMoleculesInterface || hasJMoleculesAnnotation) {
+			return true;
+		}
+
+		Generic superType = type.getSuperClass();
+
+		return superType == null || superType.represents(Object.class) ? false
+				: cache.classify(superType.asErasure()).isJMoleculesType() || type.isRecord();
+	}
+
+	private static Set<String> collectSuperTypes(TypeDescription type) {
+
+		if (type.isPrimitive() || type.isArray()) {
+			return null;
+		}
+
+		Set<String> result = new HashSet<>();
+
+		collectSuperTypes(type, result);
+
+		return result;
+	}
+
+	private static void collectSuperTypes(TypeDefinition type, Set<String> result) {
+
+		if (!result.add(type.asErasure().getName())) {
+			return;
+		}
+
+		type.getInterfaces().forEach(it -> collectSuperTypes(it, result));
+
+		Generic superClass = type.getSuperClass();
+
+		if (superClass != null) {
+			collectSuperTypes(superClass, result);
+		}
+	}
+
+	private static Set<String> collectAnnotations(TypeDescription type) {
+
+		Set<String> result = new HashSet<>();
+
+		collectAnnotations(type, result, new HashSet<>());
+
+		return result;
+	}
+
+	private static void collectAnnotations(TypeDescription type, Set<String> result, Set<TypeDescription> visited) {
+
+		if (!visited.add(type)) {
+			return;
+		}
+
+		for (AnnotationDescription annotation : type.getDeclaredAnnotations()) {
+
+			TypeDescription annotationType = annotation.getAnnotationType();
+
+			result.add(annotationType.getName());
+
+			if (!JMoleculesElementMatchers.residesInPlatformPackage(annotationType)) {
+				collectAnnotations(annotationType, result, visited);
+			}
+		}
+	}
+
+	private static Set<String> getNames(Stream<TypeDescription> types) {
+
+		Set<String> result = new HashSet<>();
+
+		types.forEach(it -> result.add(it.getName()));
+
+		return result;
+	}
+
+	/**
+	 * A cache of {@link TypeClassification}s to be shared between all plugins participating in a single build. Safe to
+	 * be used concurrently.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 0.34
+	 */
+	static class Cache {
+
+		private final Map<TypeDescription, TypeClassification> classifications = new ConcurrentHashMap<>();
+
+		/**
+		 * Returns the {@link TypeClassification} for the given type, computing it on first access.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		TypeClassification classify(TypeDescription type) {
+
+			if (type == null) {
+				throw new IllegalArgumentException("TypeDescription must not be null!");
+			}
+
+			TypeClassification result = classifications.get(type);
+
+			if (result != null) {
+				return result;
+			}
+
+			// Not using computeIfAbsent(…) as classifying a type recursively classifies its superclass
+			result = new TypeClassification(type, this);
+
+			TypeClassification existing = classifications.putIfAbsent(type, result);
+
+			return existing != null ? existing : result;
+		}
+
+		int size() {
+			return classifications.size();
+		}
+	}
+}
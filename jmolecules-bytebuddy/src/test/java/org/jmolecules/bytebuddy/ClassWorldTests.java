@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ClassWorld}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ClassWorldTests {
+
+	@Test
+	void cachesAvailabilityLookups() {
+
+		List<String> located = new ArrayList<>();
+		ClassFileLocator delegate = ClassFileLocator.ForClassLoader.ofSystemLoader();
+
+		ClassWorld world = ClassWorld.of(new ClassFileLocator() {
+
+			@Override
+			public Resolution locate(String name) throws IOException {
+
+				located.add(name);
+				return delegate.locate(name);
+			}
+
+			@Override
+			public void close() throws IOException {}
+		});
+
+		assertThat(world.isAvailable("java.lang.String")).isTrue();
+		assertThat(world.isAvailable("java.lang.String")).isTrue();
+		assertThat(world.isAvailable("com.acme.Missing")).isFalse();
+		assertThat(world.isAvailable("com.acme.Missing")).isFalse();
+
+		assertThat(located).containsExactly("java.lang.String", "com.acme.Missing");
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link HelperTypes}.
+ *
+ * @author Oliver Drotbohm
+ */
+class HelperTypesTests {
+
+	@Test
+	void attachesHelperTypeToFirstRequesterOnly() {
+
+		HelperTypes helpers = new HelperTypes();
+
+		Builder<?> helper = builderFor("com.acme.Helper");
+		Builder<?> first = builderFor("com.acme.First");
+		Builder<?> second = builderFor("com.acme.Second");
+
+		Builder<?> firstResult = helpers.require(first, helper);
+		Builder<?> secondResult = helpers.require(second, helper);
+
+		assertThat(firstResult.make().getAuxiliaryTypes().keySet())
+				.extracting(TypeDescription::getName)
+				.containsExactly("com.acme.Helper");
+		assertThat(secondResult).isSameAs(second);
+
+		// Repeated requests by the owner consistently attach the helper
+		assertThat(helpers.require(first, helper)).isNotSameAs(first);
+		assertThat(helpers.size()).isEqualTo(1);
+	}
+
+	@Test
+	void generatesHelperTypeOnlyOnceForRepeatedRequests() {
+
+		HelperTypes helpers = new HelperTypes();
+
+		Builder<?> helper = builderFor("com.acme.Helper");
+		Builder<?> owner = builderFor("com.acme.Owner");
+
+		byte[] first = helpers.require(owner, helper).make().getAuxiliaryTypes().values().iterator().next();
+		byte[] second = helpers.require(owner, helper).make().getAuxiliaryTypes().values().iterator().next();
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void namesHelperTypesAfterReferenceTypeInPackageOfRequester() {
+
+		TypeDescription requester = TypeDescription.ForLoadedType.of(HelperTypesTests.class);
+		TypeDescription reference = TypeDescription.ForLoadedType.of(String.class);
+
+		assertThat(helperNameFor(new HelperTypes(), requester, reference))
+				.isEqualTo("org.jmolecules.bytebuddy.StringConverter$jMolecules");
+		assertThat(helperNameFor(new HelperTypes("1a2b3c4d"), requester, reference))
+				.isEqualTo("org.jmolecules.bytebuddy.StringConverter$jMolecules$1a2b3c4d");
+	}
+
+	@Test
+	void derivesStableScopePerBuildOutput(@TempDir Path folder) throws Exception {
+
+		Path first = Files.createDirectories(folder.resolve("first"));
+		Path second = Files.createDirectories(folder.resolve("second"));
+
+		Files.createFile(first.resolve("pom.xml"));
+		Files.createFile(second.resolve("build.gradle"));
+
+		String main = scopedNameFor(first.resolve("target/classes"));
+		String test = scopedNameFor(first.resolve("target/test-classes"));
+		String other = scopedNameFor(second.resolve("target/classes"));
+
+		assertThat(main).matches("org\\.jmolecules\\.bytebuddy\\.HelperTypesTestsConverter\\$jMolecules\\$[0-9a-f]{8}");
+		assertThat(main).isEqualTo(scopedNameFor(first.resolve("target/classes")));
+		assertThat(List.of(main, test, other)).doesNotHaveDuplicates();
+	}
+
+	private static String scopedNameFor(Path outputFolder) {
+
+		TypeDescription type = TypeDescription.ForLoadedType.of(HelperTypesTests.class);
+
+		return helperNameFor(HelperTypes.forOutputFolder(outputFolder.toFile()), type, type);
+	}
+
+	private static String helperNameFor(HelperTypes helpers, TypeDescription requester, TypeDescription reference) {
+
+		return new ByteBuddy()
+				.with(helpers.getNamingStrategy(requester, reference, "Converter"))
+				.subclass(Object.class)
+				.toTypeDescription()
+				.getName();
+	}
+
+	private static Builder<?> builderFor(String name) {
+		return new ByteBuddy().subclass(Object.class).name(name);
+	}
+}
@@ -17,13 +17,17 @@ package org.jmolecules.bytebuddy;
 
 import static org.assertj.core.api.Assertions.*;
 
+import net.bytebuddy.description.type.TypeDescription;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.jmolecules.bytebuddy.PluginLogger.Verbosity;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
 
@@ -72,6 +76,180 @@ class JMoleculesConfigurationTests {
 				});
 	}
 
+	@Test
+	void includesAndExcludesTypesByPackage() {
+
+		Properties properties = new Properties();
+		properties.put("bytebuddy.include", "com.acme.orders, com.acme.customers");
+		properties.put("bytebuddy.exclude", "com.acme.orders.generated");
+
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		assertThat(configuration.include(typeNamed("com.acme.orders.Order"))).isTrue();
+		assertThat(configuration.include(typeNamed("com.acme.customers.Customer"))).isTrue();
+		assertThat(configuration.include(typeNamed("com.acme.orders.generated.OrderDto"))).isFalse();
+		assertThat(configuration.include(typeNamed("com.acme.payments.Payment"))).isFalse();
+
+		assertThat(new JMoleculesConfiguration(new Properties()).include(typeNamed("com.acme.Sample"))).isTrue();
+	}
+
+	@Test
+	void enablesNoOpDetectionIfConfigured() {
+
+		Properties properties = new Properties();
+
+		assertThat(new JMoleculesConfiguration(properties).supportsNoOpDetection()).isFalse();
+
+		properties.put("bytebuddy.skip-no-ops", "true");
+
+		assertThat(new JMoleculesConfiguration(properties).supportsNoOpDetection()).isTrue();
+	}
+
+	@Test
+	void exposesLogSettings() {
+
+		Properties properties = new Properties();
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		assertThat(configuration.getLogVerbosity()).isEqualTo(Verbosity.FULL);
+		assertThat(configuration.supportsStreamingLog()).isFalse();
+
+		properties.put("bytebuddy.log.verbosity", "Types");
+		properties.put("bytebuddy.log.streaming", "true");
+
+		assertThat(configuration.getLogVerbosity()).isEqualTo(Verbosity.TYPES);
+		assertThat(configuration.supportsStreamingLog()).isTrue();
+
+		properties.put("bytebuddy.log.verbosity", "debug");
+
+		assertThatIllegalStateException().isThrownBy(configuration::getLogVerbosity);
+	}
+
+	@Test
+	void calculatesStableFingerprintIndependentOfPropertyOrder() {
+
+		Properties first = new Properties();
+		first.put("bytebuddy.skip-no-ops", "true");
+		first.put("bytebuddy.log.verbosity", "types");
+
+		Properties second = new Properties();
+		second.put("bytebuddy.log.verbosity", "types");
+		second.put("bytebuddy.skip-no-ops", "true");
+
+		String fingerprint = new JMoleculesConfiguration(first).getFingerprint();
+
+		assertThat(fingerprint).matches("[0-9a-f]{64}");
+		assertThat(new JMoleculesConfiguration(second).getFingerprint()).isEqualTo(fingerprint);
+
+		second.put("bytebuddy.log.verbosity", "full");
+
+		assertThat(new JMoleculesConfiguration(second).getFingerprint()).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void enablesHibernateEnhancementSupportIfConfigured() {
+
+		Properties properties = new Properties();
+
+		assertThat(new JMoleculesConfiguration(properties).supportsHibernateEnhancement()).isFalse();
+
+		properties.put("bytebuddy.jpa.hibernate-enhancement", "true");
+
+		assertThat(new JMoleculesConfiguration(properties).supportsHibernateEnhancement()).isTrue();
+	}
+
+	@Test
+	void enablesIdentifierConvertersIfConfigured() {
+
+		Properties properties = new Properties();
+
+		assertThat(new JMoleculesConfiguration(properties).supportsIdentifierConverters()).isFalse();
+
+		properties.put("bytebuddy.jpa.identifier-converters", "true");
+
+		assertThat(new JMoleculesConfiguration(properties).supportsIdentifierConverters()).isTrue();
+	}
+
+	@Test
+	void exposesCollectionFetchDefaults() {
+
+		Properties properties = new Properties();
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		assertThat(configuration.getCollectionsFetchType()).isEmpty();
+		assertThat(configuration.getCollectionsFetchMode()).isEmpty();
+		assertThat(configuration.getCollectionsBatchSize()).isEmpty();
+
+		properties.put("bytebuddy.jpa.collections.fetch", " EAGER ");
+		properties.put("bytebuddy.jpa.collections.fetch-mode", "join");
+		properties.put("bytebuddy.jpa.collections.batch-size", "32");
+
+		assertThat(configuration.getCollectionsFetchType()).hasValue("eager");
+		assertThat(configuration.getCollectionsFetchMode()).hasValue("join");
+		assertThat(configuration.getCollectionsBatchSize()).hasValue(32);
+	}
+
+	@Test
+	void rejectsInvalidCollectionFetchDefaults() {
+
+		Properties properties = new Properties();
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		properties.put("bytebuddy.jpa.collections.fetch-mode", "select");
+
+		assertThatIllegalStateException().isThrownBy(configuration::getCollectionsFetchMode)
+				.withMessageContaining("subselect, batch, join");
+
+		properties.put("bytebuddy.jpa.collections.batch-size", "0");
+
+		assertThatIllegalStateException().isThrownBy(configuration::getCollectionsBatchSize);
+	}
+
+	@Test
+	void exposesSpringDataRepositoryBase() {
+
+		Properties properties = new Properties();
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		assertThat(configuration.getSpringDataRepositoryBase()).isEmpty();
+
+		properties.put("bytebuddy.spring-data.repository-base", " List-Crud ");
+
+		assertThat(configuration.getSpringDataRepositoryBase()).hasValue("list-crud");
+
+		properties.put("bytebuddy.spring-data.repository-base", "jpa");
+
+		assertThatIllegalStateException().isThrownBy(configuration::getSpringDataRepositoryBase)
+				.withMessageContaining("crud, list-crud, paging");
+	}
+
+	@Test
+	void exposesAxonSnapshotThresholdPerType() {
+
+		Properties properties = new Properties();
+		JMoleculesConfiguration configuration = new JMoleculesConfiguration(properties);
+
+		TypeDescription order = typeNamed("com.acme.Order");
+		TypeDescription customer = typeNamed("com.acme.Customer");
+
+		assertThat(configuration.getAxonSnapshotThreshold(order)).isEmpty();
+
+		properties.put("bytebuddy.axon.snapshot-threshold", "100");
+		properties.put("bytebuddy.axon.snapshot-threshold.com.acme.Customer", "0");
+
+		assertThat(configuration.getAxonSnapshotThreshold(order)).hasValue(100);
+		assertThat(configuration.getAxonSnapshotThreshold(customer)).isEmpty();
+
+		properties.put("bytebuddy.axon.snapshot-threshold.com.acme.Order", "-1");
+
+		assertThatIllegalStateException().isThrownBy(() -> configuration.getAxonSnapshotThreshold(order))
+				.withMessageContaining("non-negative");
+	}
+
+	private static TypeDescription typeNamed(String name) {
+		return new TypeDescription.Latent(name, Modifier.PUBLIC, TypeDescription.Generic.OBJECT);
+	}
+
 	private static File getFolder(String name) {
 
 		try {
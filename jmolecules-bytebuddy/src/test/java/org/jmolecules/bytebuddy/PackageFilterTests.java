@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PackageFilter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PackageFilterTests {
+
+	@Test
+	void matchesTypesInPackagesAndSubPackages() {
+
+		PackageFilter filter = PackageFilter.of(" com.acme.orders , com.acme.customers., org.example");
+
+		assertThat(filter.matches("com.acme.orders.Order")).isTrue();
+		assertThat(filter.matches("com.acme.orders.internal.LineItem")).isTrue();
+		assertThat(filter.matches("com.acme.customers.Customer")).isTrue();
+		assertThat(filter.matches("org.example.Sample$Nested")).isTrue();
+
+		assertThat(filter.matches("com.acme.ordersx.Order")).isFalse();
+		assertThat(filter.matches("com.acme.Order")).isFalse();
+		assertThat(filter.matches("com.acme.payments.Payment")).isFalse();
+		assertThat(filter.matches("aaa.Sample")).isFalse();
+		assertThat(filter.matches("zzz.Sample")).isFalse();
+	}
+
+	@Test
+	void collapsesNestedPackages() {
+
+		PackageFilter filter = PackageFilter.of("com.acme.orders, com.acme, com.acme.orders.internal");
+
+		assertThat(filter.matches("com.acme.orders.Order")).isTrue();
+		assertThat(filter.matches("com.acme.payments.Payment")).isTrue();
+		assertThat(filter.matches("com.other.Payment")).isFalse();
+	}
+
+	@Test
+	void emptyFilterMatchesNothing() {
+
+		assertThat(PackageFilter.of(null).isEmpty()).isTrue();
+		assertThat(PackageFilter.of(" , ").isEmpty()).isTrue();
+		assertThat(PackageFilter.of("").matches("com.acme.Order")).isFalse();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.jmolecules.bytebuddy.PerformanceReport.Phase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link PerformanceReport}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PerformanceReportTests {
+
+	static final TypeDescription SAMPLE = TypeDescription.ForLoadedType.of(Sample.class);
+	static final Plugin PLUGIN = new JMoleculesSpringPlugin();
+
+	@TempDir File folder;
+
+	@Test
+	void writesReportIfEnabled() throws IOException {
+
+		File classes = new File(folder, "classes");
+		classes.mkdirs();
+
+		PerformanceReport report = createReport(classes, true);
+
+		assertThat(report.measure(PLUGIN, Phase.MATCHES, SAMPLE, () -> true)).isTrue();
+		report.transformed(SAMPLE);
+		report.measure(PLUGIN, Phase.APPLY, SAMPLE, () -> null);
+
+		report.write();
+
+		File file = new File(folder, "jmolecules-bytebuddy-classes-report.json");
+
+		assertThat(file).exists();
+		assertThat(Files.readString(file.toPath()))
+				.contains("\"transformedTypes\": 1")
+				.contains("\"name\": \"JMoleculesSpringPlugin\"")
+				.contains("\"matchedTypes\": 1")
+				.contains("\"name\": \"" + Sample.class.getName() + "\"");
+	}
+
+	@Test
+	void escapesNamesInReport() throws IOException {
+
+		File classes = new File(folder, "classes");
+		classes.mkdirs();
+
+		PerformanceReport report = createReport(classes, true);
+		TypeDescription type = new TypeDescription.Latent("example.\"Quoted\\Sample", 0,
+				TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(Object.class));
+
+		report.measure(PLUGIN, Phase.APPLY, type, () -> null);
+		report.write();
+
+		assertThat(Files.readString(new File(folder, "jmolecules-bytebuddy-classes-report.json").toPath()))
+				.contains("\"name\": \"example.\\\"Quoted\\\\Sample\"");
+	}
+
+	@Test
+	void doesNotWriteReportByDefault() {
+
+		File classes = new File(folder, "classes");
+		PerformanceReport report = createReport(classes, false);
+
+		assertThat(report.measure(PLUGIN, Phase.MATCHES, SAMPLE, () -> true)).isTrue();
+
+		report.write();
+
+		assertThat(new File(folder, "jmolecules-bytebuddy-classes-report.json")).doesNotExist();
+	}
+
+	private static PerformanceReport createReport(File classes, boolean enabled) {
+
+		Properties properties = new Properties();
+
+		if (enabled) {
+			properties.put("bytebuddy.report", "true");
+		}
+
+		return new PerformanceReport(classes, new JMoleculesConfiguration(properties));
+	}
+
+	static class Sample {}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jmolecules.bytebuddy.PluginLogger.Settings;
+import org.jmolecules.bytebuddy.PluginLogger.Verbosity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link PluginLogger}.
+ *
+ * @author Oliver Drotbohm
+ */
+class PluginLoggerTests {
+
+	static final TypeDescription FIRST = TypeDescription.ForLoadedType.of(First.class);
+	static final TypeDescription SECOND = TypeDescription.ForLoadedType.of(Second.class);
+
+	Logger logger = (Logger) LoggerFactory.getLogger(PluginLogger.class);
+	ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	@BeforeEach
+	void setUp() {
+
+		PluginLogger.INSTANCE.flush();
+
+		appender.start();
+
+		logger.setLevel(Level.INFO);
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		PluginLogger.INSTANCE.flush();
+
+		logger.detachAppender(appender);
+		logger.setLevel(null);
+	}
+
+	@Test
+	void buffersEntriesUntilFlushedByDefault() {
+
+		PluginLogger.INSTANCE.transforming(FIRST, Settings.DEFAULT);
+		PluginLogger.INSTANCE.getLog(FIRST, "Test", Settings.DEFAULT).info("Transformed {}.", "type");
+		PluginLogger.INSTANCE.transforming(SECOND, Settings.DEFAULT);
+
+		assertThat(getMessages()).isEmpty();
+
+		PluginLogger.INSTANCE.flush();
+
+		assertThat(getMessages()).containsExactly("", "□─ " + FIRST.getName(), "└─ Test - Transformed type.", "");
+	}
+
+	@Test
+	void writesEntriesOfPreviouslyTransformedTypeWhenStreaming() {
+
+		Settings settings = new Settings(Verbosity.FULL, true);
+
+		PluginLogger.INSTANCE.transforming(FIRST, settings);
+		PluginLogger.INSTANCE.getLog(FIRST, "Test", settings).info("First");
+
+		assertThat(getMessages()).isEmpty();
+
+		PluginLogger.INSTANCE.transforming(SECOND, settings);
+		PluginLogger.INSTANCE.getLog(SECOND, "Test", settings).info("Second");
+
+		assertThat(getMessages()).containsExactly("□─ " + FIRST.getName(), "└─ Test - First", "");
+
+		PluginLogger.INSTANCE.flush();
+
+		// No separator for the remaining entries of streamed types
+		assertThat(getMessages()).containsExactly("□─ " + FIRST.getName(), "└─ Test - First", "",
+				"□─ " + SECOND.getName(), "└─ Test - Second", "");
+	}
+
+	@Test
+	void omitsDetailsForTypesVerbosity() {
+
+		PluginLogger.Log log = PluginLogger.INSTANCE.getLog(FIRST, "Test", new Settings(Verbosity.TYPES, false));
+
+		log.info("Type");
+		log.detail("Member");
+
+		PluginLogger.INSTANCE.flush();
+
+		assertThat(getMessages()).contains("└─ Test - Type").noneMatch(it -> it.contains("Member"));
+	}
+
+	@Test
+	void appliesSettingsOfThePluginObtainingTheLog() {
+
+		PluginLogger.INSTANCE.getLog(FIRST, "Silent", new Settings(Verbosity.NONE, false)).info("Silent");
+		PluginLogger.INSTANCE.getLog(SECOND, "Full", Settings.DEFAULT).detail("Member");
+
+		PluginLogger.INSTANCE.flush();
+
+		assertThat(getMessages())
+				.contains("□─ " + SECOND.getName(), "└─ Full - Member")
+				.noneMatch(it -> it.contains(FIRST.getName()) || it.contains("Silent"));
+	}
+
+	private List<String> getMessages() {
+
+		return appender.list.stream()
+				.map(ILoggingEvent::getFormattedMessage)
+				.collect(Collectors.toList());
+	}
+
+	static class First {}
+
+	static class Second {}
+}
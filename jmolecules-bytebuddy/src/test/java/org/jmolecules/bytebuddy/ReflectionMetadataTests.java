@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.jmolecules.architecture.cqrs.CommandHandler;
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.ddd.types.ValueObject;
+import org.jmolecules.event.annotation.DomainEventHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ReflectionMetadata}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReflectionMetadataTests {
+
+	static final String PUBLIC_MEMBERS = "\"allPublicConstructors\": true, \"allPublicMethods\": true, ";
+
+	@TempDir File folder;
+
+	TypeClassification.Cache classifications = new TypeClassification.Cache();
+
+	@Test
+	void writesMinimalReflectConfigIfEnabled() throws IOException {
+
+		ReflectionMetadata metadata = createMetadata(true);
+
+		Stream.of(SampleIdentifier.class, SampleAggregate.class, Unrelated.class)
+				.map(TypeDescription.ForLoadedType::of)
+				.forEach(it -> metadata.add(it, classifications));
+
+		metadata.write();
+
+		File file = new File(folder, "META-INF/native-image/jmolecules/" + folder.getName() + "/reflect-config.json");
+
+		assertThat(file).exists();
+		assertThat(Files.readAllLines(file.toPath()))
+				.containsExactly("[",
+						"  { \"name\": \"" + SampleAggregate.class.getName() + "\", " + PUBLIC_MEMBERS
+								+ "\"fields\": [ { \"name\": \"id\" } ], "
+								+ "\"methods\": [  ] },",
+						"  { \"name\": \"" + SampleIdentifier.class.getName() + "\", \"fields\": [ { \"name\": \"id\" } ], "
+								+ "\"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [ \"java.util.UUID\" ] }, "
+								+ "{ \"name\": \"getId\", \"parameterTypes\": [  ] }, "
+								+ "{ \"name\": \"of\", \"parameterTypes\": [ \"java.util.UUID\" ] } ] }",
+						"]");
+	}
+
+	@Test
+	void includesHandlerMethodsOfAggregates() throws IOException {
+
+		ReflectionMetadata metadata = createMetadata(true);
+
+		metadata.add(TypeDescription.ForLoadedType.of(SampleEventSourcedAggregate.class), classifications);
+		metadata.write();
+
+		File file = new File(folder, "META-INF/native-image/jmolecules/" + folder.getName() + "/reflect-config.json");
+
+		assertThat(Files.readAllLines(file.toPath()))
+				.containsExactly("[",
+						"  { \"name\": \"" + SampleEventSourcedAggregate.class.getName() + "\", " + PUBLIC_MEMBERS
+								+ "\"fields\": [  ], "
+								+ "\"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [  ] }, "
+								+ "{ \"name\": \"handle\", \"parameterTypes\": [ \"java.lang.Long\" ] }, "
+								+ "{ \"name\": \"on\", \"parameterTypes\": [ \"java.lang.String\" ] } ] }",
+						"]");
+	}
+
+	@Test
+	void registersPublicMembersOfValueObjectsNotWrappingASingleValue() throws IOException {
+
+		ReflectionMetadata metadata = createMetadata(true);
+
+		metadata.add(TypeDescription.ForLoadedType.of(SampleAddress.class), classifications);
+		metadata.write();
+
+		File file = new File(folder, "META-INF/native-image/jmolecules/" + folder.getName() + "/reflect-config.json");
+
+		assertThat(Files.readAllLines(file.toPath()))
+				.containsExactly("[",
+						"  { \"name\": \"" + SampleAddress.class.getName() + "\", " + PUBLIC_MEMBERS
+								+ "\"fields\": [  ], \"methods\": [  ] }",
+						"]");
+	}
+
+	@Test
+	void doesNotWriteReflectConfigByDefault() {
+
+		ReflectionMetadata metadata = createMetadata(false);
+
+		metadata.add(TypeDescription.ForLoadedType.of(SampleIdentifier.class), classifications);
+		metadata.write();
+
+		assertThat(new File(folder, "META-INF")).doesNotExist();
+	}
+
+	private ReflectionMetadata createMetadata(boolean enabled) {
+
+		Properties properties = new Properties();
+		properties.put("bytebuddy.native-image", "true");
+
+		if (enabled) {
+			properties.put("bytebuddy.native-image.reflect-config", "true");
+		}
+
+		return new ReflectionMetadata(folder, new JMoleculesConfiguration(properties));
+	}
+
+	static class SampleIdentifier implements Identifier {
+
+		private final UUID id;
+
+		SampleIdentifier(UUID id) {
+			this.id = id;
+		}
+
+		static SampleIdentifier of(UUID id) {
+			return new SampleIdentifier(id);
+		}
+
+		public UUID getId() {
+			return id;
+		}
+
+		@Override
+		public String toString() {
+			return id.toString();
+		}
+	}
+
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleIdentifier> {
+
+		private final SampleIdentifier id;
+		private String name;
+
+		SampleAggregate(SampleIdentifier id) {
+			this.id = id;
+		}
+
+		@Override
+		public SampleIdentifier getId() {
+			return id;
+		}
+	}
+
+	@org.jmolecules.ddd.annotation.AggregateRoot
+	static class SampleEventSourcedAggregate {
+
+		SampleEventSourcedAggregate() {}
+
+		@CommandHandler
+		void handle(Long command) {}
+
+		@DomainEventHandler
+		void on(String event) {}
+
+		void unrelated(String event) {}
+	}
+
+	static class SampleAddress implements ValueObject {
+
+		private final String street, city;
+
+		public SampleAddress(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	static class Unrelated {
+		String value;
+	}
+}
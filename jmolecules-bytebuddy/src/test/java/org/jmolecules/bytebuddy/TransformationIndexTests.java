@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.jmolecules.bytebuddy.JMoleculesPlugin.JMoleculesConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link TransformationIndex}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TransformationIndexTests {
+
+	static final TypeDescription SAMPLE = TypeDescription.ForLoadedType.of(Sample.class);
+	static final TypeDescription OTHER = TypeDescription.ForLoadedType.of(Other.class);
+	static final List<Plugin> PLUGINS = List.of(new JMoleculesSpringPlugin());
+
+	@TempDir File folder;
+	File classes;
+	JMoleculesConfiguration configuration;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		this.classes = new File(folder, "classes");
+
+		writeClassFile(Sample.class);
+		writeClassFile(Other.class);
+
+		Properties properties = new Properties();
+		properties.put("bytebuddy.incremental", "true");
+
+		this.configuration = new JMoleculesConfiguration(properties);
+	}
+
+	@Test
+	void considersTypesUnchangedIfIndexedInPreviousBuild() {
+
+		assertThat(build().isUnchanged(SAMPLE, PLUGINS)).isFalse();
+		assertThat(build().isUnchanged(SAMPLE, PLUGINS)).isTrue();
+	}
+
+	@Test
+	void considersTypeChangedIfMatchedByDifferentPlugins() {
+
+		build();
+
+		assertThat(build().isUnchanged(SAMPLE, Collections.emptyList())).isFalse();
+	}
+
+	@Test
+	void considersTypeChangedIfReferencedTypeChanged() throws IOException {
+
+		build();
+
+		Files.write(getClassFile(Other.class).toPath(), new byte[] { 0 });
+
+		assertThat(build().isUnchanged(SAMPLE, PLUGINS)).isFalse();
+	}
+
+	@Test
+	void considersTypeChangedIfReferencingTypeChanged() throws IOException {
+
+		build();
+
+		Files.write(getClassFile(Sample.class).toPath(), new byte[] { 0 });
+
+		assertThat(build().isUnchanged(OTHER, Collections.emptyList())).isFalse();
+	}
+
+	@Test
+	void considersTypesChangedIfConfigurationChanged() {
+
+		build();
+
+		Properties properties = new Properties();
+		properties.put("bytebuddy.incremental", "true");
+		properties.put("bytebuddy.persistence", "jpa");
+
+		TransformationIndex index = new TransformationIndex(classes, new JMoleculesConfiguration(properties));
+		index.register(SAMPLE, PLUGINS);
+		index.register(OTHER, Collections.emptyList());
+
+		assertThat(index.isUnchanged(SAMPLE, PLUGINS)).isFalse();
+	}
+
+	@Test
+	void doesNotWriteIndexIfDisabled() {
+
+		TransformationIndex index = new TransformationIndex(classes, new JMoleculesConfiguration(new Properties()));
+		index.register(SAMPLE, PLUGINS);
+		index.write();
+
+		assertThat(index.isUnchanged(SAMPLE, PLUGINS)).isFalse();
+		assertThat(folder.listFiles()).extracting(File::getName).containsExactly("classes");
+	}
+
+	/**
+	 * Simulates a build registering both sample types and writing the index.
+	 */
+	private TransformationIndex build() {
+
+		TransformationIndex index = new TransformationIndex(classes, configuration);
+
+		index.register(SAMPLE, PLUGINS);
+		index.register(OTHER, Collections.emptyList());
+		index.write();
+
+		return index;
+	}
+
+	private void writeClassFile(Class<?> type) throws IOException {
+
+		File file = getClassFile(type);
+		file.getParentFile().mkdirs();
+
+		Files.write(file.toPath(), ClassFileLocator.ForClassLoader.read(type));
+	}
+
+	private File getClassFile(Class<?> type) {
+		return new File(classes, type.getName().replace('.', File.separatorChar).concat(".class"));
+	}
+
+	static class Sample {
+		Other other;
+	}
+
+	static class Other {}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.bytebuddy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tests for {@link TypeClassification}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TypeClassificationTests {
+
+	TypeClassification.Cache cache = new TypeClassification.Cache();
+
+	@Test
+	void classifiesAggregateRootImplementation() {
+
+		TypeClassification classification = classify(SampleAggregate.class);
+
+		assertThat(classification.isAggregateRoot()).isTrue();
+		assertThat(classification.isEntity()).isTrue();
+		assertThat(classification.isValueObject()).isFalse();
+		assertThat(classification.isJMoleculesType()).isTrue();
+		assertThat(classification.isAssignableTo(Object.class)).isTrue();
+	}
+
+	@Test
+	void detectsMetaAnnotatedRoles() {
+
+		TypeClassification classification = classify(SampleValue.class);
+
+		assertThat(classification.isValueObject()).isTrue();
+		assertThat(classification.hasAnnotation(ValueObject.class)).isTrue();
+		assertThat(classification.isAnnotatedWith(ValueObject.class)).isFalse();
+		assertThat(classification.isAnnotatedWith(MyValueObject.class)).isTrue();
+	}
+
+	@Test
+	void considersSuperclassesAndRecordsJMoleculesTypes() {
+
+		assertThat(classify(SampleSubclass.class).isJMoleculesType()).isTrue();
+		assertThat(classify(SampleRecord.class).isJMoleculesType()).isTrue();
+		assertThat(classify(SampleComponent.class).isJMoleculesType()).isFalse();
+		assertThat(classify(SampleComponent.class).isAnnotatedWithOrAssignableTo(Component.class)).isTrue();
+	}
+
+	@Test
+	void classifiesTypeOnlyOnce() {
+
+		TypeClassification classification = classify(SampleSubclass.class);
+
+		assertThat(classify(SampleSubclass.class)).isSameAs(classification);
+		assertThat(cache.size()).isEqualTo(2); // includes the superclass
+	}
+
+	private TypeClassification classify(Class<?> type) {
+		return cache.classify(TypeDescription.ForLoadedType.of(type));
+	}
+
+	static class SampleId implements Identifier {}
+
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleId> {
+
+		@Override
+		public SampleId getId() {
+			return null;
+		}
+	}
+
+	static class SampleSubclass extends SampleAggregate {}
+
+	@ValueObject
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface MyValueObject {}
+
+	@MyValueObject
+	static class SampleValue {}
+
+	record SampleRecord(String value) {}
+
+	@Component
+	static class SampleComponent {}
+}
@@ -15,6 +15,9 @@
  */
 package org.jmolecules.ddd.integration;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jmolecules.ddd.types.AggregateRoot;
@@ -35,4 +38,29 @@ public interface AggregateLookup<T, ID> {
 	 * @return will never be {@literal null}.
 	 */
 	Optional<T> findById(ID id);
+
+	/**
+	 * Returns the {@link AggregateRoot}s with the given identifiers. Identifiers that cannot be resolved are not
+	 * contained in the result. Looks up the aggregates one by one by default, implementations are encouraged to
+	 * override this with a single batch lookup.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Map<ID, T> findAll(Collection<ID> ids) {
+
+		if (ids == null) {
+			throw new IllegalArgumentException("Identifiers must not be null!");
+		}
+
+		Map<ID, T> result = new LinkedHashMap<>();
+
+		for (ID id : ids) {
+			if (!result.containsKey(id)) {
+				findById(id).ifPresent(it -> result.put(id, it));
+			}
+		}
+
+		return result;
+	}
 }
@@ -15,7 +15,11 @@
  */
 package org.jmolecules.ddd.integration;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jmolecules.ddd.types.AggregateRoot;
 import org.jmolecules.ddd.types.Association;
@@ -46,6 +50,81 @@ public interface AssociationResolver<T extends AggregateRoot<T, ID>, ID extends
 		return findById(association.getId());
 	}
 
+	/**
+	 * Resolves the {@link AggregateRoot}s pointed to by the given {@link Association}s using a single
+	 * {@link #findAll(Collection)} call.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @return the resolved {@link AggregateRoot}s by their identifiers, will never be {@literal null}.
+	 */
+	default Map<ID, T> resolveAll(Collection<? extends Association<T, ID>> associations) {
+
+		if (associations == null) {
+			throw new IllegalArgumentException("Associations must not be null!");
+		}
+
+		Set<ID> ids = new LinkedHashSet<>();
+
+		for (Association<T, ID> association : associations) {
+
+			if (association == null) {
+				throw new IllegalArgumentException("Association must not be null!");
+			}
+
+			ids.add(association.getId());
+		}
+
+		return findAll(ids);
+	}
+
+	/**
+	 * Returns whether the {@link AggregateRoot} pointed to by the given {@link Association} exists. Resolves the
+	 * aggregate by default, implementations are encouraged to override this with a more efficient check.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return whether the {@link AggregateRoot} exists.
+	 */
+	default boolean exists(Association<T, ID> association) {
+
+		if (association == null) {
+			throw new IllegalArgumentException("Association must not be null!");
+		}
+
+		return resolve(association).isPresent();
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association} into the given projection type. By
+	 * default, the aggregate is resolved and returned as is, which requires it to implement the projection type.
+	 * Implementations are encouraged to override this to only load the state needed by the projection.
+	 *
+	 * @param <P> the projection type.
+	 * @param association must not be {@literal null}.
+	 * @param projection must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the resolved aggregate does not implement the projection type.
+	 */
+	default <P> Optional<P> resolve(Association<T, ID> association, Class<P> projection) {
+
+		if (association == null) {
+			throw new IllegalArgumentException("Association must not be null!");
+		}
+
+		if (projection == null) {
+			throw new IllegalArgumentException("Projection type must not be null!");
+		}
+
+		return resolve(association).map(it -> {
+
+			if (!projection.isInstance(it)) {
+				throw new IllegalArgumentException(String.format("Aggregate %s does not implement projection type %s!", it,
+						projection.getName()));
+			}
+
+			return projection.cast(it);
+		});
+	}
+
 	/**
 	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association}.
 	 *
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.ddd.integration;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+
+/**
+ * Asynchronous variant of {@link AggregateLookup}.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the type of the aggregate
+ * @param <ID> the type of the identifier
+ * @see ConcurrentAssociationResolver
+ */
+public interface AsyncAggregateLookup<T, ID> {
+
+	/**
+	 * Returns the {@link AggregateRoot} with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	CompletionStage<Optional<T>> findById(ID id);
+
+	/**
+	 * Returns the {@link AggregateRoot}s with the given identifiers. Identifiers that cannot be resolved are not
+	 * contained in the result. Issues all lookups via {@link #findById(Object)} at once by default.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default CompletionStage<Map<ID, T>> findAll(Collection<ID> ids) {
+
+		if (ids == null) {
+			throw new IllegalArgumentException("Identifiers must not be null!");
+		}
+
+		Map<ID, CompletableFuture<Optional<T>>> lookups = new LinkedHashMap<>();
+
+		for (ID id : ids) {
+			lookups.computeIfAbsent(id, it -> findById(it).toCompletableFuture());
+		}
+
+		return CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture<?>[0]))
+				.thenApply(__ -> {
+
+					Map<ID, T> result = new LinkedHashMap<>();
+
+					lookups.forEach((id, lookup) -> lookup.join().ifPresent(it -> result.put(id, it)));
+
+					return result;
+				});
+	}
+}
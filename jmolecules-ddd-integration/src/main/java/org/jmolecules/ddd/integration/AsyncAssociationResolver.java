@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.ddd.integration;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+
+/**
+ * Asynchronous variant of {@link AssociationResolver}.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the actual {@link AggregateRoot}
+ * @param <ID> the actual {@link Identifier}
+ * @see ConcurrentAssociationResolver
+ */
+public interface AsyncAssociationResolver<T extends AggregateRoot<T, ID>, ID extends Identifier>
+		extends AsyncAggregateLookup<T, ID> {
+
+	/**
+	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association}.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default CompletionStage<Optional<T>> resolve(Association<T, ID> association) {
+
+		if (association == null) {
+			throw new IllegalArgumentException("Association must not be null!");
+		}
+
+		return findById(association.getId());
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association}. The returned
+	 * {@link CompletionStage} completes exceptionally with an {@link IllegalArgumentException} in case the resolution
+	 * fails.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default CompletionStage<T> resolveRequired(Association<T, ID> association) {
+
+		if (association == null) {
+			throw new IllegalArgumentException("Association must not be null!");
+		}
+
+		return resolve(association).thenApply(it -> it.orElseThrow(
+				() -> new IllegalArgumentException(String.format("Could not resolve association %s!", association))));
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot}s pointed to by the given {@link Association}s using a single
+	 * {@link #findAll(Collection)} call.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @return the resolved {@link AggregateRoot}s by their identifiers, will never be {@literal null}.
+	 */
+	default CompletionStage<Map<ID, T>> resolveAll(Collection<? extends Association<T, ID>> associations) {
+
+		if (associations == null) {
+			throw new IllegalArgumentException("Associations must not be null!");
+		}
+
+		Set<ID> ids = new LinkedHashSet<>();
+
+		for (Association<T, ID> association : associations) {
+
+			if (association == null) {
+				throw new IllegalArgumentException("Association must not be null!");
+			}
+
+			ids.add(association.getId());
+		}
+
+		return findAll(ids);
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.ddd.integration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Identifier;
+
+/**
+ * An {@link AsyncAssociationResolver} running the lookups of a blocking {@link AggregateLookup} on an
+ * {@link Executor}, e.g. one creating a virtual thread per task. At most the configured number of lookups are run
+ * concurrently, further ones are queued without blocking the caller or a thread of the {@link Executor}. Batch lookups
+ * are split into at most that number of chunks, each forwarded to {@link AggregateLookup#findAll(Collection)}. A
+ * running task picks up further queued lookups itself, so that the stack does not grow if the {@link Executor} runs
+ * tasks on the submitting thread.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the actual {@link AggregateRoot}
+ * @param <ID> the actual {@link Identifier}
+ */
+public class ConcurrentAssociationResolver<T extends AggregateRoot<T, ID>, ID extends Identifier>
+		implements AsyncAssociationResolver<T, ID> {
+
+	private final AggregateLookup<T, ID> delegate;
+	private final Executor executor;
+	private final int parallelism;
+
+	private final Queue<PendingLookup<?>> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger running = new AtomicInteger();
+
+	/**
+	 * Creates a new {@link ConcurrentAssociationResolver} for the given {@link AggregateLookup}, {@link Executor} and
+	 * maximum number of concurrent lookups.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param parallelism must be greater than zero.
+	 */
+	public ConcurrentAssociationResolver(AggregateLookup<T, ID> delegate, Executor executor, int parallelism) {
+
+		if (delegate == null) {
+			throw new IllegalArgumentException("AggregateLookup must not be null!");
+		}
+
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null!");
+		}
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be greater than zero!");
+		}
+
+		this.delegate = delegate;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AsyncAggregateLookup#findById(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Optional<T>> findById(ID id) {
+
+		if (id == null) {
+			throw new IllegalArgumentException("Identifier must not be null!");
+		}
+
+		return submit(() -> delegate.findById(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AsyncAggregateLookup#findAll(java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Map<ID, T>> findAll(Collection<ID> ids) {
+
+		if (ids == null) {
+			throw new IllegalArgumentException("Identifiers must not be null!");
+		}
+
+		List<ID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+		List<CompletableFuture<Map<ID, T>>> chunks = new ArrayList<>();
+		int size = Math.max(1, (distinct.size() + parallelism - 1) / parallelism);
+
+		for (int i = 0; i < distinct.size(); i += size) {
+
+			List<ID> chunk = new ArrayList<>(distinct.subList(i, Math.min(i + size, distinct.size())));
+
+			chunks.add(submit(() -> delegate.findAll(chunk)));
+		}
+
+		return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+				.thenApply(__ -> {
+
+					Map<ID, T> found = new LinkedHashMap<>();
+					Map<ID, T> result = new LinkedHashMap<>();
+
+					chunks.forEach(it -> found.putAll(it.join()));
+
+					for (ID id : distinct) {
+
+						T aggregate = found.get(id);
+
+						if (aggregate != null) {
+							result.put(id, aggregate);
+						}
+					}
+
+					return result;
+				});
+	}
+
+	private <R> CompletableFuture<R> submit(Supplier<R> lookup) {
+
+		PendingLookup<R> pendingLookup = new PendingLookup<>(lookup);
+
+		pending.add(pendingLookup);
+		drain();
+
+		return pendingLookup.result;
+	}
+
+	/**
+	 * Hands pending lookups to the {@link Executor} as long as fewer than the configured number of lookups are running.
+	 * Invoked for every new lookup.
+	 */
+	private void drain() {
+
+		PendingLookup<?> lookup;
+
+		while ((lookup = next()) != null) {
+
+			PendingLookup<?> current = lookup;
+
+			try {
+				executor.execute(() -> work(current));
+			} catch (RuntimeException o_O) {
+
+				running.decrementAndGet();
+				current.result.completeExceptionally(o_O);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given lookup and all further ones pending on completion, keeping the slot acquired for the given one.
+	 *
+	 * @param lookup must not be {@literal null}.
+	 */
+	private void work(PendingLookup<?> lookup) {
+
+		while (lookup != null) {
+
+			lookup.run();
+
+			PendingLookup<?> next = pending.poll();
+
+			if (next == null) {
+
+				running.decrementAndGet();
+
+				// Pick up lookups queued after the poll above but rejected by a concurrent drain
+				next = next();
+			}
+
+			lookup = next;
+		}
+	}
+
+	/**
+	 * Acquires a slot for a concurrent lookup and returns the next pending one, or {@literal null} if either no slot is
+	 * available or no lookup is pending.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	private PendingLookup<?> next() {
+
+		while (!pending.isEmpty()) {
+
+			int current = running.get();
+
+			if (current >= parallelism) {
+				return null;
+			}
+
+			if (!running.compareAndSet(current, current + 1)) {
+				continue;
+			}
+
+			PendingLookup<?> lookup = pending.poll();
+
+			if (lookup != null) {
+				return lookup;
+			}
+
+			running.decrementAndGet();
+		}
+
+		return null;
+	}
+
+	private static class PendingLookup<R> {
+
+		private final Supplier<R> lookup;
+		private final CompletableFuture<R> result = new CompletableFuture<>();
+
+		PendingLookup(Supplier<R> lookup) {
+			this.lookup = lookup;
+		}
+
+		void run() {
+
+			try {
+				result.complete(lookup.get());
+			} catch (Throwable o_O) {
+				result.completeExceptionally(o_O);
+			}
+		}
+	}
+}
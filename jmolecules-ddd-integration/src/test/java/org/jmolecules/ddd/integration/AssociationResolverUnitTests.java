@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.ddd.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AssociationResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class AssociationResolverUnitTests {
+
+	SampleAggregate aggregate = new SampleAggregate(new SampleIdentifier());
+	AssociationResolver<SampleAggregate, SampleIdentifier> resolver = id -> id.equals(aggregate.getId())
+			? Optional.of(aggregate)
+			: Optional.empty();
+
+	@Test
+	void resolvesProjectionImplementedByAggregate() {
+
+		assertThat(resolver.resolve(Association.forAggregate(aggregate), Named.class))
+				.hasValueSatisfying(it -> assertThat(it.getName()).isEqualTo("sample"));
+		assertThat(resolver.resolve(Association.forId(new SampleIdentifier()), Named.class)).isEmpty();
+	}
+
+	@Test
+	void rejectsProjectionNotImplementedByAggregate() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> resolver.resolve(Association.forAggregate(aggregate), Runnable.class))
+				.withMessageContaining(Runnable.class.getName());
+	}
+
+	interface Named {
+		String getName();
+	}
+
+	static class SampleIdentifier implements Identifier {}
+
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleIdentifier>, Named {
+
+		private final SampleIdentifier id;
+
+		SampleAggregate(SampleIdentifier id) {
+			this.id = id;
+		}
+
+		@Override
+		public SampleIdentifier getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return "sample";
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.ddd.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConcurrentAssociationResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ConcurrentAssociationResolverUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void resolvesAssociationsWithBoundedParallelism() throws Exception {
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+
+		AggregateLookup<SampleAggregate, SampleIdentifier> lookup = id -> {
+
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+
+			return id.value % 5 == 0 ? Optional.empty() : Optional.of(new SampleAggregate(id));
+		};
+
+		List<Association<SampleAggregate, SampleIdentifier>> associations = IntStream.range(1, 21)
+				.mapToObj(SampleIdentifier::new)
+				.map(Association::<SampleAggregate, SampleIdentifier> forId)
+				.collect(Collectors.toList());
+
+		ConcurrentAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new ConcurrentAssociationResolver<>(
+				lookup, executor, 3);
+
+		assertThat(resolver.resolveAll(associations).toCompletableFuture().get(5, TimeUnit.SECONDS))
+				.hasSize(16)
+				.doesNotContainKey(new SampleIdentifier(5));
+		assertThat(maximum.get()).isBetween(1, 3);
+	}
+
+	@Test
+	void resolvesBatchesInChunksViaDelegateBatchLookup() throws Exception {
+
+		List<List<SampleIdentifier>> batches = new CopyOnWriteArrayList<>();
+
+		AggregateLookup<SampleAggregate, SampleIdentifier> lookup = new AggregateLookup<SampleAggregate, SampleIdentifier>() {
+
+			@Override
+			public Optional<SampleAggregate> findById(SampleIdentifier id) {
+				throw new IllegalStateException("Unexpected single lookup!");
+			}
+
+			@Override
+			public Map<SampleIdentifier, SampleAggregate> findAll(Collection<SampleIdentifier> ids) {
+
+				batches.add(new ArrayList<>(ids));
+
+				return ids.stream()
+						.filter(it -> it.value % 5 != 0)
+						.collect(Collectors.toMap(Function.identity(), SampleAggregate::new));
+			}
+		};
+
+		List<Association<SampleAggregate, SampleIdentifier>> associations = IntStream.range(1, 11)
+				.mapToObj(SampleIdentifier::new)
+				.map(Association::<SampleAggregate, SampleIdentifier> forId)
+				.collect(Collectors.toList());
+
+		ConcurrentAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new ConcurrentAssociationResolver<>(
+				lookup, executor, 3);
+
+		assertThat(resolver.resolveAll(associations).toCompletableFuture().get(5, TimeUnit.SECONDS).keySet())
+				.extracting(it -> it.value)
+				.containsExactly(1, 2, 3, 4, 6, 7, 8, 9);
+		assertThat(batches).hasSize(3);
+	}
+
+	@Test
+	void runsQueuedLookupsIterativelyOnCallerRunsExecutor() throws Exception {
+
+		AtomicReference<Runnable> deferred = new AtomicReference<>();
+
+		// Defers the first task to queue up lookups, runs all others on the calling thread
+		Executor executor = task -> {
+			if (!deferred.compareAndSet(null, task)) {
+				task.run();
+			}
+		};
+
+		ConcurrentAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new ConcurrentAssociationResolver<>(
+				id -> Optional.of(new SampleAggregate(id)), executor, 1);
+
+		List<CompletableFuture<Optional<SampleAggregate>>> lookups = IntStream.range(0, 100_000)
+				.mapToObj(SampleIdentifier::new)
+				.map(resolver::findById)
+				.map(CompletionStage::toCompletableFuture)
+				.collect(Collectors.toList());
+
+		deferred.get().run();
+
+		assertThat(lookups).allSatisfy(it -> assertThat(it.getNow(Optional.empty())).isPresent());
+	}
+
+	@Test
+	void propagatesLookupFailures() {
+
+		ConcurrentAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new ConcurrentAssociationResolver<>(
+				id -> {
+					throw new IllegalStateException("Failed!");
+				}, executor, 1);
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> resolver.findById(new SampleIdentifier(1)).toCompletableFuture().get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> resolver.resolveRequired(Association.forId(new SampleIdentifier(1))).toCompletableFuture()
+						.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void rejectsInvalidParallelism() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new ConcurrentAssociationResolver<SampleAggregate, SampleIdentifier>(id -> Optional.empty(),
+						executor, 0));
+	}
+
+	static class SampleIdentifier implements Identifier {
+
+		final int value;
+
+		SampleIdentifier(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof SampleIdentifier && ((SampleIdentifier) obj).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value;
+		}
+	}
+
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleIdentifier> {
+
+		private final SampleIdentifier id;
+
+		SampleAggregate(SampleIdentifier id) {
+			this.id = id;
+		}
+
+		@Override
+		public SampleIdentifier getId() {
+			return id;
+		}
+	}
+}
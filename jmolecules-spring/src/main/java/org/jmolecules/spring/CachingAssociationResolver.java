@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jmolecules.ddd.integration.AggregateLookup;
+import org.jmolecules.ddd.integration.AssociationResolver;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * An {@link AssociationResolver} caching the aggregates looked up via a delegate {@link AggregateLookup} for the
+ * current transaction or, if no transaction synchronization is active, the current web request. Outside of those,
+ * all lookups are forwarded to the delegate. Concurrent lookups of the same aggregate within a scope only hit the
+ * delegate once and {@link #findAll(Collection)} only forwards the identifiers not already cached as a single batch.
+ * Lookups not resolving an aggregate are not cached, so that aggregates created later on in the same scope are found.
+ * A delegate looking up the aggregate it is currently looking up again on the same thread is forwarded to directly.
+ * The cache of a transaction is suspended along with it, so that a nested transaction (e.g. one using
+ * {@code REQUIRES_NEW}) uses a cache of its own.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the type of the aggregate
+ * @param <ID> the type of the identifier
+ */
+public class CachingAssociationResolver<T extends AggregateRoot<T, ID>, ID extends Identifier>
+		implements AssociationResolver<T, ID> {
+
+	private static final boolean TRANSACTIONS_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			CachingAssociationResolver.class.getClassLoader());
+
+	private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+			"org.springframework.web.context.request.RequestContextHolder",
+			CachingAssociationResolver.class.getClassLoader());
+
+	private final AggregateLookup<T, ID> delegate;
+
+	/**
+	 * Creates a new {@link CachingAssociationResolver} for the given {@link AggregateLookup}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingAssociationResolver(AggregateLookup<T, ID> delegate) {
+
+		Assert.notNull(delegate, "AggregateLookup must not be null!");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AggregateLookup#findById(java.lang.Object)
+	 */
+	@Override
+	public Optional<T> findById(ID id) {
+
+		Assert.notNull(id, "Identifier must not be null!");
+
+		ConcurrentMap<Object, Lookup<Optional<T>>> cache = getCache();
+
+		if (cache == null) {
+			return delegate.findById(id);
+		}
+
+		Lookup<Optional<T>> lookup = new Lookup<>();
+		Lookup<Optional<T>> existing = cache.putIfAbsent(id, lookup);
+
+		if (existing != null) {
+
+			// Waiting for a lookup started by the current thread would never return
+			return existing.isPendingOnCurrentThread() ? delegate.findById(id) : await(existing);
+		}
+
+		try {
+
+			Optional<T> result = delegate.findById(id);
+			complete(cache, id, lookup, result);
+
+			return result;
+
+		} catch (Throwable o_O) {
+
+			cache.remove(id, lookup);
+			lookup.completeExceptionally(o_O);
+
+			throw o_O;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AggregateLookup#findAll(java.util.Collection)
+	 */
+	@Override
+	public Map<ID, T> findAll(Collection<ID> ids) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		ConcurrentMap<Object, Lookup<Optional<T>>> cache = getCache();
+
+		if (cache == null) {
+			return delegate.findAll(ids);
+		}
+
+		Map<ID, Lookup<Optional<T>>> lookups = new LinkedHashMap<>();
+		Map<ID, Lookup<Optional<T>>> pending = new LinkedHashMap<>();
+		List<ID> reentrant = new ArrayList<>();
+		Map<ID, T> found = Collections.emptyMap();
+
+		for (ID id : ids) {
+
+			if (lookups.containsKey(id)) {
+				continue;
+			}
+
+			Lookup<Optional<T>> lookup = new Lookup<>();
+			Lookup<Optional<T>> existing = cache.putIfAbsent(id, lookup);
+
+			lookups.put(id, existing == null ? lookup : existing);
+
+			if (existing == null) {
+				pending.put(id, lookup);
+			} else if (existing.isPendingOnCurrentThread()) {
+
+				// Waiting for a lookup started by the current thread would never return
+				reentrant.add(id);
+			}
+		}
+
+		if (!pending.isEmpty() || !reentrant.isEmpty()) {
+
+			List<ID> batch = new ArrayList<>(pending.keySet());
+			batch.addAll(reentrant);
+
+			try {
+
+				Map<ID, T> loaded = delegate.findAll(batch);
+				pending.forEach((id, lookup) -> complete(cache, id, lookup, Optional.ofNullable(loaded.get(id))));
+
+				found = loaded;
+
+			} catch (Throwable o_O) {
+
+				pending.forEach((id, lookup) -> {
+					cache.remove(id, lookup);
+					lookup.completeExceptionally(o_O);
+				});
+
+				throw o_O;
+			}
+		}
+
+		Map<ID, T> result = new LinkedHashMap<>();
+
+		for (Entry<ID, Lookup<Optional<T>>> entry : lookups.entrySet()) {
+
+			ID id = entry.getKey();
+			Optional<T> aggregate = reentrant.contains(id)
+					? Optional.ofNullable(found.get(id))
+					: await(entry.getValue());
+
+			aggregate.ifPresent(it -> result.put(id, it));
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AssociationResolver#exists(org.jmolecules.ddd.types.Association)
+	 */
+	@Override
+	public boolean exists(Association<T, ID> association) {
+
+		Assert.notNull(association, "Association must not be null!");
+
+		ConcurrentMap<Object, Lookup<Optional<T>>> cache = getCache();
+
+		// Prefer the cached aggregate, the delegate's potentially more efficient check otherwise
+		return (cache != null && cache.containsKey(association.getId())) || !(delegate instanceof AssociationResolver)
+				? AssociationResolver.super.exists(association)
+				: ((AssociationResolver<T, ID>) delegate).exists(association);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.jmolecules.ddd.integration.AssociationResolver#resolve(org.jmolecules.ddd.types.Association, java.lang.Class)
+	 */
+	@Override
+	public <P> Optional<P> resolve(Association<T, ID> association, Class<P> projection) {
+
+		// Projections are not cached but can be resolved more efficiently by the delegate
+		return delegate instanceof AssociationResolver
+				? ((AssociationResolver<T, ID>) delegate).resolve(association, projection)
+				: AssociationResolver.super.resolve(association, projection);
+	}
+
+	@Nullable
+	private ConcurrentMap<Object, Lookup<Optional<T>>> getCache() {
+
+		if (TRANSACTIONS_PRESENT && TransactionScope.isActive()) {
+			return TransactionScope.getCache(this);
+		}
+
+		if (WEB_PRESENT && RequestScope.isActive()) {
+			return RequestScope.getCache(this);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Completes the given lookup with the given result and evicts it from the cache if no aggregate was found.
+	 * Concurrent callers already waiting for the lookup still see the result.
+	 */
+	private static <T> void complete(ConcurrentMap<Object, Lookup<Optional<T>>> cache, Object id,
+			Lookup<Optional<T>> lookup, Optional<T> result) {
+
+		lookup.complete(result);
+
+		if (!result.isPresent()) {
+			cache.remove(id, lookup);
+		}
+	}
+
+	private static <T> T await(CompletableFuture<T> lookup) {
+
+		try {
+			return lookup.join();
+		} catch (CompletionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw o_O;
+		}
+	}
+
+	/**
+	 * A pending or completed lookup remembering the thread that started it.
+	 */
+	@SuppressWarnings("serial")
+	private static class Lookup<T> extends CompletableFuture<T> {
+
+		private final Thread owner = Thread.currentThread();
+
+		boolean isPendingOnCurrentThread() {
+			return !isDone() && owner == Thread.currentThread();
+		}
+	}
+
+	private static class TransactionScope {
+
+		static boolean isActive() {
+			return TransactionSynchronizationManager.isSynchronizationActive();
+		}
+
+		@SuppressWarnings("unchecked")
+		static <T> ConcurrentMap<Object, T> getCache(Object key) {
+
+			ConcurrentMap<Object, T> cache = (ConcurrentMap<Object, T>) TransactionSynchronizationManager.getResource(key);
+
+			if (cache != null) {
+				return cache;
+			}
+
+			ConcurrentMap<Object, T> created = new ConcurrentHashMap<>();
+
+			TransactionSynchronizationManager.bindResource(key, created);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void suspend() {
+					TransactionSynchronizationManager.unbindResourceIfPossible(key);
+				}
+
+				@Override
+				public void resume() {
+					TransactionSynchronizationManager.bindResource(key, created);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(key);
+				}
+			});
+
+			return created;
+		}
+	}
+
+	private static class RequestScope {
+
+		private static final String ATTRIBUTE = CachingAssociationResolver.class.getName() + ".CACHES";
+
+		static boolean isActive() {
+			return RequestContextHolder.getRequestAttributes() != null;
+		}
+
+		/**
+		 * Returns the cache for the given key. As request attributes can only be keyed by name, all caches are held in a
+		 * single attribute keyed by the owning resolver instance.
+		 */
+		@SuppressWarnings("unchecked")
+		static <T> ConcurrentMap<Object, T> getCache(Object key) {
+
+			RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+			ConcurrentMap<Object, ConcurrentMap<Object, T>> caches;
+
+			synchronized (attributes) {
+
+				caches = (ConcurrentMap<Object, ConcurrentMap<Object, T>>) attributes.getAttribute(ATTRIBUTE,
+						RequestAttributes.SCOPE_REQUEST);
+
+				if (caches == null) {
+					caches = new ConcurrentHashMap<>();
+					attributes.setAttribute(ATTRIBUTE, caches, RequestAttributes.SCOPE_REQUEST);
+				}
+			}
+
+			return caches.computeIfAbsent(key, __ -> new ConcurrentHashMap<>());
+		}
+	}
+}
@@ -21,6 +21,8 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jmolecules.ddd.types.AggregateRoot;
@@ -38,7 +40,8 @@ import org.springframework.util.ReflectionUtils;
 
 /**
  * Converter to create {@link Association} instances from either {@link Identifier} primitives or {@link Identifier}
- * instances themselves.
+ * instances themselves. Factories registered via {@link #registerFactory(Class, Class, Function)} (e.g. by code generated
+ * ahead of time) are preferred over reflectively detected {@code of(…)} methods.
  *
  * @author Oliver Drotbohm
  */
@@ -46,6 +49,7 @@ public class PrimitivesToAssociationConverter<T extends AggregateRoot<T, Identif
 		implements GenericConverter {
 
 	private static final Map<FactoryMethodKey, Method> CACHE = new ConcurrentReferenceHashMap<>();
+	private static final Map<FactoryMethodKey, Function<Object, Object>> FACTORIES = new ConcurrentHashMap<>();
 
 	private final PrimitivesToIdentifierConverter delegate;
 
@@ -72,6 +76,28 @@ public class PrimitivesToAssociationConverter<T extends AggregateRoot<T, Identif
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Registers the given factory to create instances of the given {@link Association} type from {@link Identifier}s of
+	 * the given type, so that instances of the former can be created without looking up the factory method
+	 * reflectively.
+	 *
+	 * @param <ID> the {@link Identifier} type.
+	 * @param <T> the {@link Association} type.
+	 * @param type must not be {@literal null}.
+	 * @param identifierType must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <ID extends Identifier, T extends Association<?, ID>> void registerFactory(Class<T> type,
+			Class<ID> identifierType, Function<ID, T> factory) {
+
+		Assert.notNull(type, "Association type must not be null!");
+		Assert.notNull(identifierType, "Identifier type must not be null!");
+		Assert.notNull(factory, "Factory must not be null!");
+
+		FACTORIES.put(FactoryMethodKey.of(type, identifierType), (Function<Object, Object>) (Function<?, ?>) factory);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.core.convert.converter.GenericConverter#getConvertibleTypes()
@@ -106,6 +132,12 @@ public class PrimitivesToAssociationConverter<T extends AggregateRoot<T, Identif
 
 		Class<?> associationType = type.resolve(Association.class);
 		FactoryMethodKey key = FactoryMethodKey.of(associationType, identifierType);
+		Function<Object, Object> factory = FACTORIES.get(key);
+
+		if (factory != null) {
+			return (Association<?, ?>) factory.apply(id);
+		}
+
 		Method method = CACHE.computeIfAbsent(key, it -> it.findFactoryMethod());
 
 		return (Association<?, ?>) ReflectionUtils.invokeMethod(method, null, id);
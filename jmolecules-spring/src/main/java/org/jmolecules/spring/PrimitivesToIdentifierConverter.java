@@ -17,13 +17,20 @@ package org.jmolecules.spring;
 
 import lombok.Value;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -43,16 +50,21 @@ import org.springframework.util.ReflectionUtils;
 
 /**
  * A Spring {@link Converter} to convert primitives like {@link String} and {@link UUID} values to jMolecules
- * {@link Identifier} instances, assuming they expose a static factory method {@code of(…)}.
+ * {@link Identifier} instances, assuming they expose a static factory method {@code of(…)}. Factories registered via
+ * {@link #registerFactory(Class, Class, Function)} (e.g. by code generated ahead of time) are preferred over
+ * reflectively detected ones. Candidates are considered in a stable order: factories in registration order, factory
+ * methods in the order of the primitives and constructors in declaration order. The first one taking the source value
+ * directly wins, the first one the source value can be converted for otherwise.
  *
  * @author Oliver Drotbohm
  */
 public class PrimitivesToIdentifierConverter implements ConditionalGenericConverter {
 
 	private static final Map<Class<?>, Optional<Instantiator>> CREATORS = new ConcurrentReferenceHashMap<>();
+	private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> FACTORIES = new ConcurrentHashMap<>();
 
-	private static final Set<Class<?>> DEFAULT_PRIMITIVES = new HashSet<>(Arrays.asList(String.class, UUID.class));
-	private static final Set<String> DEFAULT_FACTORY_METHOD_NAMES = new HashSet<>(Arrays.asList("of"));
+	private static final Set<Class<?>> DEFAULT_PRIMITIVES = new LinkedHashSet<>(Arrays.asList(String.class, UUID.class));
+	private static final Set<String> DEFAULT_FACTORY_METHOD_NAMES = new LinkedHashSet<>(Arrays.asList("of"));
 
 	private final Supplier<? extends ConversionService> conversionService;
 	private Set<Class<?>> primitives;
@@ -69,10 +81,45 @@ public class PrimitivesToIdentifierConverter implements ConditionalGenericConver
 
 		Assert.notNull(conversionService, "ConversionService must not be null!");
 
-		this.primitives = new HashSet<>(DEFAULT_PRIMITIVES);
-		this.factoryMethodNames = new HashSet<>(DEFAULT_FACTORY_METHOD_NAMES);
+		this.primitives = new LinkedHashSet<>(DEFAULT_PRIMITIVES);
+		this.factoryMethodNames = new LinkedHashSet<>(DEFAULT_FACTORY_METHOD_NAMES);
 		this.conversionService = conversionService;
-		this.preparer = this::prepareSource;
+		this.preparer = (value, executable) -> prepareSource(value, executable.getParameterTypes()[0]);
+	}
+
+	/**
+	 * Registers the given factory to create instances of the given {@link Identifier} type from values of the given
+	 * source type, so that instances of the former can be created without looking up factory methods or constructors
+	 * reflectively.
+	 *
+	 * @param <S> the source type.
+	 * @param <T> the {@link Identifier} type.
+	 * @param type must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, T extends Identifier> void registerFactory(Class<T> type, Class<S> sourceType,
+			Function<S, T> factory) {
+
+		Assert.notNull(type, "Identifier type must not be null!");
+		Assert.notNull(sourceType, "Source type must not be null!");
+		Assert.notNull(factory, "Factory must not be null!");
+
+		Class<?> source = ClassUtils.resolvePrimitiveIfNecessary(sourceType);
+
+		// Copy on write to retain the registration order
+		FACTORIES.compute(type, (__, existing) -> {
+
+			Map<Class<?>, Function<Object, Object>> factories = existing == null
+					? new LinkedHashMap<>()
+					: new LinkedHashMap<>(existing);
+
+			factories.put(source, (Function<Object, Object>) (Function<?, ?>) factory);
+
+			return Collections.unmodifiableMap(factories);
+		});
+		CREATORS.remove(type);
 	}
 
 	/*
@@ -129,11 +176,33 @@ public class PrimitivesToIdentifierConverter implements ConditionalGenericConver
 
 	private Optional<Instantiator> lookupInstantiator(Class<?> source, Class<?> target) {
 
+		Optional<Instantiator> registered = detectRegisteredFactory(target, source);
+
+		if (registered.isPresent()) {
+			return registered;
+		}
+
 		Optional<Instantiator> creatorMethod = detectCreatorMethod(target, source);
 
 		return creatorMethod.isPresent() ? creatorMethod : detectConstructor(target, source);
 	}
 
+	/**
+	 * Detects a factory registered for the given type that can use the parameter of the given type as source to create
+	 * instances of it.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param parameterType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Optional<Instantiator> detectRegisteredFactory(Class<?> type, Class<?> parameterType) {
+
+		Map<Class<?>, Function<Object, Object>> factories = FACTORIES.getOrDefault(type, Collections.emptyMap());
+
+		return select(factories.keySet(), Function.identity(), parameterType)
+				.map(it -> new Instantiator(it, param -> factories.get(it).apply(prepareSource(param, it))));
+	}
+
 	/**
 	 * Detects a static factory method on the given type that can use the parameter of the given type as source to create
 	 * instances of it (directly or via a preparing conversion).
@@ -144,15 +213,20 @@ public class PrimitivesToIdentifierConverter implements ConditionalGenericConver
 	 */
 	private Optional<Instantiator> detectCreatorMethod(Class<?> type, Class<?> parameterType) {
 
-		return factoryMethodNames.stream()
+		List<Method> methods = factoryMethodNames.stream()
 				.flatMap(name -> primitives.stream().map(primitive -> new Signature(name, primitive)))
 				.map(it -> ClassUtils.getStaticMethod(type, it.name, it.argumentType))
 				.filter(it -> it != null)
-				.filter(it -> isAssignableOrConvertable(it.getParameterTypes()[0], parameterType))
-				.peek(ReflectionUtils::makeAccessible)
-				.findFirst()
-				.map(it -> new Instantiator(it,
-						param -> ReflectionUtils.invokeMethod(it, parameterType, preparer.apply(param, it))));
+				.collect(Collectors.toList());
+
+		return select(methods, it -> it.getParameterTypes()[0], parameterType)
+				.map(it -> {
+
+					ReflectionUtils.makeAccessible(it);
+
+					return new Instantiator(it,
+							param -> ReflectionUtils.invokeMethod(it, parameterType, preparer.apply(param, it)));
+				});
 	}
 
 	/**
@@ -165,21 +239,43 @@ public class PrimitivesToIdentifierConverter implements ConditionalGenericConver
 	 */
 	private Optional<Instantiator> detectConstructor(Class<?> type, Class<?> parameterType) {
 
-		return Arrays.stream(type.getDeclaredConstructors())
+		List<Constructor<?>> constructors = Arrays.stream(type.getDeclaredConstructors())
 				.filter(it -> it.getParameterCount() == 1)
-				.filter(it -> isAssignableOrConvertable(parameterType, it.getParameterTypes()[0]))
-				.peek(ReflectionUtils::makeAccessible)
-				.findFirst()
-				.map(it -> new Instantiator(it, param -> BeanUtils.instantiateClass(it, preparer.apply(param, it))));
-	}
+				.collect(Collectors.toList());
 
-	private boolean isAssignableOrConvertable(Class<?> source, Class<?> target) {
-		return source.isAssignableFrom(target) || conversionService.get().canConvert(source, target);
+		return select(constructors, it -> it.getParameterTypes()[0], parameterType)
+				.map(it -> {
+
+					ReflectionUtils.makeAccessible(it);
+
+					return new Instantiator(it, param -> BeanUtils.instantiateClass(it, preparer.apply(param, it)));
+				});
 	}
 
-	private Object prepareSource(Object value, Executable executable) {
+	/**
+	 * Selects the first of the given candidates whose parameter type accepts the given source type or, if none does, the
+	 * first one the source type can be converted to the parameter type of.
+	 *
+	 * @param candidates must not be {@literal null}.
+	 * @param parameterType the function to obtain the parameter type of a candidate, must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private <T> Optional<T> select(Collection<T> candidates, Function<T, Class<?>> parameterType,
+			Class<?> sourceType) {
+
+		Optional<T> direct = candidates.stream()
+				.filter(it -> parameterType.apply(it).isAssignableFrom(sourceType))
+				.findFirst();
+
+		return direct.isPresent()
+				? direct
+				: candidates.stream()
+						.filter(it -> conversionService.get().canConvert(sourceType, parameterType.apply(it)))
+						.findFirst();
+	}
 
-		Class<?> sourceType = executable.getParameterTypes()[0];
+	private Object prepareSource(Object value, Class<?> sourceType) {
 
 		return sourceType.isInstance(value)
 				? value
@@ -201,8 +297,12 @@ public class PrimitivesToIdentifierConverter implements ConditionalGenericConver
 		Function<Object, Object> creator;
 
 		public Instantiator(Executable executable, Function<Object, Object> creator) {
+			this(executable.getParameterTypes()[0], creator);
+		}
+
+		public Instantiator(Class<?> idSourceType, Function<Object, Object> creator) {
 
-			this.idSourceType = executable.getParameterTypes()[0];
+			this.idSourceType = idSourceType;
 			this.creator = creator;
 		}
 	}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reactive lookup interface to be implemented e.g. by a reactive Spring Data repository to find an aggregate by its
+ * identifier.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the type of the aggregate
+ * @param <ID> the type of the identifier
+ */
+public interface ReactiveAggregateLookup<T, ID> {
+
+	/**
+	 * Returns the aggregate with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Mono<T> findById(ID id);
+
+	/**
+	 * Returns the aggregates with the given identifiers by their identifiers, looking them up concurrently.
+	 * Identifiers that cannot be resolved are not contained in the result.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #findAll(Collection, int)
+	 */
+	default Mono<Map<ID, T>> findAll(Collection<ID> ids) {
+		return findAll(ids, Queues.SMALL_BUFFER_SIZE);
+	}
+
+	/**
+	 * Returns the aggregates with the given identifiers by their identifiers, running at most the given number of
+	 * lookups concurrently. Identifiers that cannot be resolved are not contained in the result.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param concurrency the maximum number of concurrent lookups, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	default Mono<Map<ID, T>> findAll(Collection<ID> ids, int concurrency) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		return Flux.fromIterable(new LinkedHashSet<>(ids))
+				.flatMapSequential(id -> findById(id).map(it -> Tuples.of(id, it)), concurrency)
+				.collect(LinkedHashMap::new, (Map<ID, T> map, Tuple2<ID, T> it) -> map.put(it.getT1(), it.getT2()));
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring;
+
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves {@link Association}s into the actual aggregate instance reactively. Compatible with Spring Data's
+ * {@code ReactiveCrudRepository}, so that reactive repositories can simply extend it.
+ *
+ * @author Oliver Drotbohm
+ * @param <T> the actual {@link AggregateRoot}
+ * @param <ID> the actual {@link Identifier}
+ */
+public interface ReactiveAssociationResolver<T extends AggregateRoot<T, ID>, ID extends Identifier>
+		extends ReactiveAggregateLookup<T, ID> {
+
+	/**
+	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association}.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Mono<T> resolve(Association<T, ID> association) {
+
+		Assert.notNull(association, "Association must not be null!");
+
+		return findById(association.getId());
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot} pointed to by the given {@link Association}. Emits an
+	 * {@link IllegalArgumentException} in case the resolution fails.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	default Mono<T> resolveRequired(Association<T, ID> association) {
+
+		Assert.notNull(association, "Association must not be null!");
+
+		return resolve(association).switchIfEmpty(Mono.error(
+				() -> new IllegalArgumentException(String.format("Could not resolve association %s!", association))));
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot}s pointed to by the given {@link Association}s concurrently.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @return the resolved {@link AggregateRoot}s by their identifiers, will never be {@literal null}.
+	 * @see #resolveAll(Collection, int)
+	 */
+	default Mono<Map<ID, T>> resolveAll(Collection<? extends Association<T, ID>> associations) {
+		return resolveAll(associations, Queues.SMALL_BUFFER_SIZE);
+	}
+
+	/**
+	 * Resolves the {@link AggregateRoot}s pointed to by the given {@link Association}s, running at most the given
+	 * number of lookups concurrently.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @param concurrency the maximum number of concurrent lookups, must be greater than zero.
+	 * @return the resolved {@link AggregateRoot}s by their identifiers, will never be {@literal null}.
+	 */
+	default Mono<Map<ID, T>> resolveAll(Collection<? extends Association<T, ID>> associations, int concurrency) {
+
+		Assert.notNull(associations, "Associations must not be null!");
+		Assert.noNullElements(associations, "Associations must not contain null elements!");
+
+		return findAll(associations.stream().map(Association::getId).collect(Collectors.toList()), concurrency);
+	}
+}
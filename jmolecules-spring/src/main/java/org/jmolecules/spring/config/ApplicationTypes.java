@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Looks up concrete types in the application's auto-configuration packages.
+ *
+ * @author Oliver Drotbohm
+ */
+class ApplicationTypes {
+
+	private static final String AUTO_CONFIGURATION_PACKAGES = "org.springframework.boot.autoconfigure.AutoConfigurationPackages";
+
+	/**
+	 * Returns all concrete, top-level or static nested types in the auto-configuration packages registered with the
+	 * given {@link BeanFactory} that match any of the given {@link TypeFilter}s.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @param filters must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static List<Class<?>> find(BeanFactory beanFactory, @Nullable ClassLoader classLoader, TypeFilter... filters) {
+
+		if (!ClassUtils.isPresent(AUTO_CONFIGURATION_PACKAGES, classLoader)
+				|| !AutoConfigurationPackages.has(beanFactory)) {
+			return Collections.emptyList();
+		}
+
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false) {
+
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+
+				AnnotationMetadata metadata = definition.getMetadata();
+
+				return metadata.isIndependent() && metadata.isConcrete();
+			}
+		};
+
+		provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		Arrays.stream(filters).forEach(provider::addIncludeFilter);
+
+		return AutoConfigurationPackages.get(beanFactory).stream()
+				.flatMap(it -> provider.findCandidateComponents(it).stream())
+				.map(it -> ClassUtils.resolveClassName(Objects.requireNonNull(it.getBeanClassName()), classLoader))
+				.distinct()
+				.sorted(Comparator.comparing(Class::getName))
+				.collect(Collectors.toList());
+	}
+}
@@ -15,8 +15,11 @@
  */
 package org.jmolecules.spring.config;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
 import org.jmolecules.spring.AssociationToPrimitivesConverter;
 import org.jmolecules.spring.IdentifierToPrimitivesConverter;
 import org.jmolecules.spring.PrimitivesToAssociationConverter;
@@ -62,4 +65,38 @@ public class JMoleculesConverterConfigUtils {
 
 		return service;
 	}
+
+	/**
+	 * Registers the given factory to create instances of the given {@link Identifier} type from values of the given
+	 * source type with the {@link PrimitivesToIdentifierConverter}, so that no reflective lookup of factory methods or
+	 * constructors is needed. Usually invoked from code generated ahead of time for native images.
+	 *
+	 * @param <S> the source type.
+	 * @param <T> the {@link Identifier} type.
+	 * @param type must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @see JMoleculesConvertersAotProcessor
+	 */
+	public static <S, T extends Identifier> void registerIdentifierFactory(Class<T> type, Class<S> sourceType,
+			Function<S, T> factory) {
+		PrimitivesToIdentifierConverter.registerFactory(type, sourceType, factory);
+	}
+
+	/**
+	 * Registers the given factory to create instances of the given {@link Association} type from {@link Identifier}s of
+	 * the given type with the {@link PrimitivesToAssociationConverter}, so that no reflective lookup of the factory
+	 * method is needed. Usually invoked from code generated ahead of time for native images.
+	 *
+	 * @param <ID> the {@link Identifier} type.
+	 * @param <T> the {@link Association} type.
+	 * @param type must not be {@literal null}.
+	 * @param identifierType must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @see JMoleculesConvertersAotProcessor
+	 */
+	public static <ID extends Identifier, T extends Association<?, ID>> void registerAssociationFactory(Class<T> type,
+			Class<ID> identifierType, Function<ID, T> factory) {
+		PrimitivesToAssociationConverter.registerFactory(type, identifierType, factory);
+	}
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.lang.model.element.Modifier;
+
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.spring.PrimitivesToAssociationConverter;
+import org.jmolecules.spring.PrimitivesToIdentifierConverter;
+import org.springframework.aot.generate.AccessControl;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A {@link BeanFactoryInitializationAotProcessor} that looks up all {@link Identifier} and {@link Association} types in
+ * the application's auto-configuration packages at build time and generates code registering their factory methods
+ * and constructors via {@link JMoleculesConverterConfigUtils}. That way, the {@link PrimitivesToIdentifierConverter}
+ * and {@link PrimitivesToAssociationConverter} do not have to look them up reflectively at runtime. Factory methods and
+ * constructors that cannot be referred to from generated code are registered for reflection instead.
+ *
+ * @author Oliver Drotbohm
+ */
+class JMoleculesConvertersAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	// Needs to be kept in sync with the defaults of PrimitivesToIdentifierConverter
+	private static final List<Class<?>> PRIMITIVES = Arrays.asList(String.class, UUID.class);
+	private static final String FACTORY_METHOD_NAME = "of";
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor#processAheadOfTime(org.springframework.beans.factory.config.ConfigurableListableBeanFactory)
+	 */
+	@Nullable
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+
+		List<Class<?>> types = ApplicationTypes.find(beanFactory, beanFactory.getBeanClassLoader(),
+				new AssignableTypeFilter(Identifier.class), new AssignableTypeFilter(Association.class));
+
+		List<Factory> factories = types.stream()
+				.flatMap(it -> Identifier.class.isAssignableFrom(it)
+						? detectIdentifierFactories(it).stream()
+						: detectAssociationFactory(it).map(Collections::singletonList).orElse(Collections.emptyList()).stream())
+				.collect(Collectors.toList());
+
+		if (factories.isEmpty()) {
+			return null;
+		}
+
+		return (context, code) -> {
+
+			ReflectionHints hints = context.getRuntimeHints().reflection();
+			List<CodeBlock> statements = new ArrayList<>();
+
+			for (Factory factory : factories) {
+
+				if (factory.isAccessible()) {
+					statements.add(factory.toRegistration());
+				} else {
+					factory.registerHints(hints);
+				}
+			}
+
+			if (statements.isEmpty()) {
+				return;
+			}
+
+			GeneratedMethod method = code.getMethods().add("registerJMoleculesConverterFactories", builder -> {
+
+				builder.addJavadoc("Registers the factories for jMolecules identifier and association types.");
+				builder.addModifiers(Modifier.PRIVATE);
+
+				statements.forEach(builder::addStatement);
+			});
+
+			code.addInitializer(method.toMethodReference());
+		};
+	}
+
+	/**
+	 * Detects the static {@code of(…)} factory methods taking one of the default primitives or, if none present, the
+	 * single-argument constructors, just like {@link PrimitivesToIdentifierConverter} does at runtime.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static List<Factory> detectIdentifierFactories(Class<?> type) {
+
+		List<Factory> methods = PRIMITIVES.stream()
+				.map(it -> ClassUtils.getStaticMethod(type, FACTORY_METHOD_NAME, it))
+				.filter(Objects::nonNull)
+				.map(it -> new Factory(type, it.getParameterTypes()[0], it))
+				.collect(Collectors.toList());
+
+		if (!methods.isEmpty()) {
+			return methods;
+		}
+
+		return Arrays.stream(type.getDeclaredConstructors())
+				.filter(it -> it.getParameterCount() == 1)
+				.map(it -> new Factory(type, it.getParameterTypes()[0], it))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Detects the static {@code of(…)} factory method taking the {@link Identifier} type the given {@link Association}
+	 * type is bound to, just like {@link PrimitivesToAssociationConverter} does at runtime.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Optional<Factory> detectAssociationFactory(Class<?> type) {
+
+		Class<?> identifierType = ResolvableType.forClass(type).as(Association.class).getGeneric(1).resolve();
+
+		if (identifierType == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(ReflectionUtils.findMethod(type, FACTORY_METHOD_NAME, identifierType))
+				.filter(it -> java.lang.reflect.Modifier.isStatic(it.getModifiers()))
+				.map(it -> new Factory(type, identifierType, it));
+	}
+
+	/**
+	 * A factory method or constructor to create instances of an {@link Identifier} or {@link Association} type from a
+	 * single parameter.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class Factory {
+
+		private final Class<?> type, parameterType;
+		private final Executable executable;
+
+		Factory(Class<?> type, Class<?> parameterType, Executable executable) {
+
+			this.type = type;
+			this.parameterType = parameterType;
+			this.executable = executable;
+		}
+
+		boolean isAccessible() {
+			return AccessControl.forMember(executable).isPublic()
+					&& AccessControl.forClass(parameterType).isPublic();
+		}
+
+		CodeBlock toRegistration() {
+
+			String factory = executable instanceof Constructor ? "new" : executable.getName();
+
+			return Identifier.class.isAssignableFrom(type)
+					? CodeBlock.of("$T.registerIdentifierFactory($T.class, $T.class, $T::$L)",
+							JMoleculesConverterConfigUtils.class, type, parameterType, type, factory)
+					: CodeBlock.of("$T.registerAssociationFactory($T.class, $T.class, $T::$L)",
+							JMoleculesConverterConfigUtils.class, type, parameterType, type, factory);
+		}
+
+		void registerHints(ReflectionHints hints) {
+
+			if (executable instanceof Constructor) {
+				hints.registerConstructor((Constructor<?>) executable, ExecutableMode.INVOKE);
+			} else {
+				hints.registerMethod((Method) executable, ExecutableMode.INVOKE);
+			}
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Warms up the jMolecules integration during a class data sharing (AppCDS) training run, i.e. if the application is
+ * started with {@code -Dspring.context.exit=onRefresh}. Loads all {@link Identifier} and {@link Association} types as
+ * well as the helper types generated by the jMolecules ByteBuddy plugin (e.g. attribute converters and instantiators)
+ * in the application's auto-configuration packages, resolves the converters and Jackson serializers for the former and
+ * reports the types that will not end up in the archive.
+ *
+ * @author Oliver Drotbohm
+ */
+class JMoleculesTrainingRun implements SmartInitializingSingleton {
+
+	private static final Log LOG = LogFactory.getLog(JMoleculesTrainingRun.class);
+	private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+
+	// Suffix of the helper types generated by the ByteBuddy plugin, optionally scoped to a build output by a hash
+	private static final Pattern HELPER_TYPES = Pattern.compile(".*\\$jMolecules(\\$[0-9a-f]{8})?");
+
+	private final BeanFactory beanFactory;
+	private final ClassLoader classLoader;
+
+	/**
+	 * Creates a new {@link JMoleculesTrainingRun} for the given {@link BeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 */
+	JMoleculesTrainingRun(BeanFactory beanFactory, ClassLoader classLoader) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null!");
+
+		this.beanFactory = beanFactory;
+		this.classLoader = classLoader;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		List<Class<?>> types = warmUp();
+		Map<String, List<Class<?>>> problems = new TreeMap<>();
+
+		for (Class<?> type : types) {
+			detectArchivingProblem(type)
+					.ifPresent(it -> problems.computeIfAbsent(it, __ -> new ArrayList<>()).add(type));
+		}
+
+		LOG.info(String.format("jMolecules - Warmed up %s types for the training run.", types.size()));
+
+		problems.forEach((problem, affected) -> {
+			LOG.warn(String.format("jMolecules - %s types will not be archived as they are %s (e.g. %s).", affected.size(),
+					problem, affected.get(0).getName()));
+		});
+	}
+
+	/**
+	 * Loads all types relevant to the jMolecules integration and resolves the converters and Jackson serializers for
+	 * identifiers and associations.
+	 *
+	 * @return the types loaded, will never be {@literal null}.
+	 */
+	List<Class<?>> warmUp() {
+
+		List<Class<?>> types = ApplicationTypes.find(beanFactory, classLoader,
+				new AssignableTypeFilter(Identifier.class), new AssignableTypeFilter(Association.class),
+				new RegexPatternTypeFilter(HELPER_TYPES));
+
+		ConversionService conversionService = JMoleculesConverterConfigUtils
+				.registerConverters(new DefaultConversionService());
+
+		for (Class<?> type : types) {
+
+			if (Identifier.class.isAssignableFrom(type)) {
+				conversionService.canConvert(String.class, type);
+				conversionService.canConvert(UUID.class, type);
+				conversionService.canConvert(type, Object.class);
+			}
+
+			if (Association.class.isAssignableFrom(type)) {
+				conversionService.canConvert(Object.class, type);
+				conversionService.canConvert(type, Object.class);
+			}
+		}
+
+		if (ClassUtils.isPresent(OBJECT_MAPPER, classLoader)) {
+			JacksonWarmUp.warmUp(beanFactory, types);
+		}
+
+		return types;
+	}
+
+	/**
+	 * Returns why the given type will not be included in a CDS archive, if so.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Optional<String> detectArchivingProblem(Class<?> type) {
+
+		ClassLoader loader = type.getClassLoader();
+
+		// Bootstrap types
+		if (loader == null) {
+			return Optional.empty();
+		}
+
+		if (loader != ClassLoader.getSystemClassLoader() && loader != ClassLoader.getPlatformClassLoader()) {
+			return Optional.of("loaded by a custom class loader (" + loader.getClass().getName() + ")");
+		}
+
+		CodeSource source = type.getProtectionDomain().getCodeSource();
+		URL location = source == null ? null : source.getLocation();
+
+		if (location == null || !"file".equals(location.getProtocol()) || !location.getPath().endsWith(".jar")) {
+			return Optional.of("not loaded from a JAR file");
+		}
+
+		if (getMajorVersion(type) < 50) {
+			return Optional.of("compiled for Java 5 or older");
+		}
+
+		return Optional.empty();
+	}
+
+	private static int getMajorVersion(Class<?> type) {
+
+		String resource = ClassUtils.convertClassNameToResourcePath(type.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+
+		try (InputStream stream = type.getClassLoader().getResourceAsStream(resource)) {
+
+			if (stream == null) {
+				return Integer.MAX_VALUE;
+			}
+
+			DataInputStream input = new DataInputStream(stream);
+
+			input.readInt(); // magic
+			input.readUnsignedShort(); // minor
+
+			return input.readUnsignedShort();
+
+		} catch (IOException o_O) {
+			return Integer.MAX_VALUE;
+		}
+	}
+
+	private static class JacksonWarmUp {
+
+		static void warmUp(BeanFactory beanFactory, List<Class<?>> types) {
+
+			beanFactory.getBeanProvider(ObjectMapper.class).ifAvailable(mapper -> {
+
+				types.stream()
+						.filter(it -> !HELPER_TYPES.matcher(it.getName()).matches())
+						.forEach(it -> {
+							mapper.canSerialize(it);
+							mapper.canDeserialize(mapper.constructType(it));
+						});
+			});
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration to warm up the jMolecules integration in class data sharing (AppCDS) training runs, i.e. if the
+ * application is started with {@code -Dspring.context.exit=onRefresh}.
+ *
+ * @author Oliver Drotbohm
+ * @see JMoleculesTrainingRun
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.context.exit", havingValue = "onRefresh")
+class JMoleculesTrainingRunAutoConfiguration {
+
+	@Bean
+	JMoleculesTrainingRun jMoleculesTrainingRun(ConfigurableListableBeanFactory beanFactory) {
+		return new JMoleculesTrainingRun(beanFactory, beanFactory.getBeanClassLoader());
+	}
+}
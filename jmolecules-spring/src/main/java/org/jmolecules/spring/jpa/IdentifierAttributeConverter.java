@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.jpa;
+
+import java.util.function.Supplier;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.spring.IdentifierToPrimitivesConverter;
+import org.jmolecules.spring.PrimitivesToIdentifierConverter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.Assert;
+
+/**
+ * A JPA {@code AttributeConverter} to map single-value {@link Identifier}s to their primitive value, so that they can be
+ * persisted as basic type instead of as embeddable.
+ *
+ * @author Oliver Drotbohm
+ * @see PrimitivesToIdentifierConverter
+ * @see IdentifierToPrimitivesConverter
+ */
+abstract class IdentifierAttributeConverter<ID extends Identifier, S> {
+
+	private static ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+	protected static TypeDescriptor OBJECT_TYPE_DESCRIPTOR = TypeDescriptor.valueOf(Object.class);
+
+	protected final PrimitivesToIdentifierConverter toIdentifier;
+	protected final IdentifierToPrimitivesConverter toPrimitive;
+	protected final TypeDescriptor idTypeDescriptor;
+
+	/**
+	 * Creates a new {@link IdentifierAttributeConverter} for the given {@link Identifier} type.
+	 *
+	 * @param idType must not be {@literal null}.
+	 */
+	protected IdentifierAttributeConverter(Class<ID> idType) {
+
+		Assert.notNull(idType, "Identifier type must not be null!");
+
+		Supplier<ConversionService> conversionService = () -> CONVERSION_SERVICE;
+
+		this.toIdentifier = new PrimitivesToIdentifierConverter(conversionService);
+		this.toPrimitive = new IdentifierToPrimitivesConverter(conversionService);
+		this.idTypeDescriptor = TypeDescriptor.valueOf(idType);
+	}
+}
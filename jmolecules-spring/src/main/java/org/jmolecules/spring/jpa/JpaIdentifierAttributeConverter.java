@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.jpa;
+
+import javax.persistence.AttributeConverter;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * JPA flavor of {@link IdentifierAttributeConverter}.
+ *
+ * @author Oliver Drotbohm
+ */
+public class JpaIdentifierAttributeConverter<ID extends Identifier, S>
+		extends IdentifierAttributeConverter<ID, S>
+		implements AttributeConverter<ID, S> {
+
+	/**
+	 * Creates a new {@link JpaIdentifierAttributeConverter} for the given id type.
+	 *
+	 * @param idType must not be {@literal null}.
+	 */
+	public JpaIdentifierAttributeConverter(Class<ID> idType) {
+		super(idType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.persistence.AttributeConverter#convertToDatabaseColumn(java.lang.Object)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public S convertToDatabaseColumn(ID attribute) {
+		return (S) toPrimitive.convert(attribute, TypeDescriptor.forObject(attribute), OBJECT_TYPE_DESCRIPTOR);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.persistence.AttributeConverter#convertToEntityAttribute(java.lang.Object)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public ID convertToEntityAttribute(S dbData) {
+		return (ID) toIdentifier.convert(dbData, TypeDescriptor.forObject(dbData), idTypeDescriptor);
+	}
+}
@@ -115,6 +115,18 @@ class AssociationConversionUnitTests<T extends AggregateRoot<T, Identifier>> {
 		assertThat(reading.convert(null, uuidDescriptor, associationDescriptor)).isNull();
 	}
 
+	@Test
+	void prefersRegisteredFactory() {
+
+		SampleAggregateIdentifier other = SampleAggregateIdentifier.of(UUID.randomUUID());
+
+		PrimitivesToAssociationConverter.registerFactory(RegisteredAssociation.class, SampleAggregateIdentifier.class,
+				it -> new RegisteredAssociation(other));
+
+		assertThat(reading.convert(uuid, uuidDescriptor, TypeDescriptor.valueOf(RegisteredAssociation.class)))
+				.isEqualTo(new RegisteredAssociation(other));
+	}
+
 	@Value(staticConstructor = "of")
 	static class SampleAggregateIdentifier implements Identifier {
 		UUID uuid;
@@ -130,6 +142,16 @@ class AssociationConversionUnitTests<T extends AggregateRoot<T, Identifier>> {
 		SampleAggregateIdentifier id;
 	}
 
+	@Value
+	static class RegisteredAssociation implements Association<SampleAggregate, SampleAggregateIdentifier> {
+
+		SampleAggregateIdentifier id;
+
+		static RegisteredAssociation of(SampleAggregateIdentifier id) {
+			return new RegisteredAssociation(id);
+		}
+	}
+
 	static class Sample {
 		Association<SampleAggregate, SampleAggregateIdentifier> association;
 	}
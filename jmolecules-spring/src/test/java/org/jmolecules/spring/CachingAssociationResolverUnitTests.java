@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jmolecules.ddd.integration.AggregateLookup;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link CachingAssociationResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingAssociationResolverUnitTests {
+
+	@Mock AggregateLookup<SampleAggregate, SampleIdentifier> delegate;
+
+	SampleAggregate first = new SampleAggregate(SampleIdentifier.of(UUID.randomUUID()));
+	SampleAggregate second = new SampleAggregate(SampleIdentifier.of(UUID.randomUUID()));
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void forwardsLookupsOutsideOfTransactionOrRequest() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.of(first));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+
+		verify(delegate, times(2)).findById(first.getId());
+	}
+
+	@Test
+	void cachesLookupsForTransaction() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.of(first));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(resolver.resolve(Association.forAggregate(first))).hasValue(first);
+		assertThat(resolver.exists(Association.forAggregate(first))).isTrue();
+
+		verify(delegate, times(1)).findById(first.getId());
+
+		// Cache is dropped on transaction completion
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+
+		verify(delegate, times(2)).findById(first.getId());
+	}
+
+	@Test
+	void cachesLookupsForRequest() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.of(first));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> other = new CachingAssociationResolver<>(delegate);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+
+		verify(delegate, times(1)).findById(first.getId());
+
+		// Caches are scoped to the resolver instance
+		assertThat(other.findById(first.getId())).hasValue(first);
+
+		verify(delegate, times(2)).findById(first.getId());
+	}
+
+	@Test
+	void doesNotCacheMisses() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.empty(), Optional.of(first));
+		when(delegate.findAll(List.of(second.getId()))).thenReturn(Map.of(), Map.of(second.getId(), second));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(resolver.findById(first.getId())).isEmpty();
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+		assertThat(resolver.findAll(List.of(second.getId()))).isEmpty();
+		assertThat(resolver.findAll(List.of(second.getId()))).containsEntry(second.getId(), second);
+
+		verify(delegate, times(2)).findById(first.getId());
+		verify(delegate, times(2)).findAll(List.of(second.getId()));
+	}
+
+	@Test
+	void evictsFailedLookups() {
+
+		when(delegate.findById(first.getId())).thenThrow(new AssertionError("Failed!")).thenReturn(Optional.of(first));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> resolver.findById(first.getId()));
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+	}
+
+	@Test
+	void onlyLooksUpIdentifiersNotCachedInBatch() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.of(first));
+		when(delegate.findAll(List.of(second.getId()))).thenReturn(Map.of(second.getId(), second));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		resolver.findById(first.getId());
+
+		assertThat(resolver.resolveAll(List.of(Association.forAggregate(second), Association.forAggregate(first))))
+				.containsExactly(entry(second.getId(), second), entry(first.getId(), first));
+		assertThat(resolver.findById(second.getId())).hasValue(second);
+
+		verify(delegate, times(1)).findAll(any());
+	}
+
+	@Test
+	void deduplicatesConcurrentLookups() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(delegate.findById(first.getId())).then(__ -> {
+
+			started.countDown();
+			release.await(1, TimeUnit.SECONDS);
+
+			return Optional.of(first);
+		});
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+		ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+
+		CompletableFuture<Optional<SampleAggregate>> lookup = CompletableFuture.supplyAsync(() -> {
+
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			try {
+				return resolver.findById(first.getId());
+			} finally {
+				RequestContextHolder.resetRequestAttributes();
+			}
+		});
+
+		started.await(1, TimeUnit.SECONDS);
+
+		CompletableFuture<Optional<SampleAggregate>> concurrent = CompletableFuture.supplyAsync(() -> {
+
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			try {
+				return resolver.findById(first.getId());
+			} finally {
+				RequestContextHolder.resetRequestAttributes();
+			}
+		});
+
+		release.countDown();
+
+		assertThat(lookup.get(1, TimeUnit.SECONDS)).hasValue(first);
+		assertThat(concurrent.get(1, TimeUnit.SECONDS)).hasValue(first);
+
+		verify(delegate, times(1)).findById(first.getId());
+	}
+
+	@Test
+	void forwardsReentrantLookupsOfTheSameAggregateToDelegate() {
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		when(delegate.findById(first.getId()))
+				.then(__ -> resolver.findById(first.getId()))
+				.thenReturn(Optional.of(first));
+		when(delegate.findAll(List.of(second.getId())))
+				.then(__ -> resolver.findAll(List.of(second.getId())))
+				.thenReturn(Map.of(second.getId(), second));
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(resolver.findById(first.getId())).hasValue(first);
+		assertThat(resolver.findAll(List.of(second.getId()))).containsEntry(second.getId(), second);
+
+		verify(delegate, times(2)).findById(first.getId());
+		verify(delegate, times(2)).findAll(List.of(second.getId()));
+	}
+
+	@Test
+	void usesSeparateCacheForSuspendingTransaction() {
+
+		when(delegate.findById(first.getId())).thenReturn(Optional.of(first));
+
+		CachingAssociationResolver<SampleAggregate, SampleIdentifier> resolver = new CachingAssociationResolver<>(delegate);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		resolver.findById(first.getId());
+
+		// Suspend the outer transaction as a transaction manager does for REQUIRES_NEW
+		List<TransactionSynchronization> suspended = TransactionSynchronizationManager.getSynchronizations();
+		suspended.forEach(TransactionSynchronization::suspend);
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+
+		resolver.findById(first.getId());
+
+		verify(delegate, times(2)).findById(first.getId());
+
+		// Complete the inner transaction and resume the outer one
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+		suspended.forEach(it -> {
+			it.resume();
+			TransactionSynchronizationManager.registerSynchronization(it);
+		});
+
+		resolver.findById(first.getId());
+
+		verify(delegate, times(2)).findById(first.getId());
+	}
+
+	@Value
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleIdentifier> {
+		SampleIdentifier id;
+	}
+}
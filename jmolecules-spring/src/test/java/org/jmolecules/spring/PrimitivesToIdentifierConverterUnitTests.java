@@ -105,6 +105,81 @@ class PrimitivesToIdentifierConverterUnitTests {
 		assertThat(converter.convert("1:2", STRING_DESCRIPTOR, target)).isEqualTo(expected);
 	}
 
+	@Test
+	void prefersRegisteredFactory() {
+
+		PrimitivesToIdentifierConverter.registerFactory(RegisteredIdentifier.class, String.class,
+				it -> new RegisteredIdentifier("registered:" + it));
+
+		TypeDescriptor descriptor = TypeDescriptor.valueOf(RegisteredIdentifier.class);
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(converter.matches(STRING_DESCRIPTOR, descriptor)).isTrue();
+		assertThat(converter.convert("id", STRING_DESCRIPTOR, descriptor))
+				.isEqualTo(new RegisteredIdentifier("registered:id"));
+		assertThat(converter.convert(uuid, UUID_DESCRIPTOR, descriptor))
+				.isEqualTo(new RegisteredIdentifier("registered:" + uuid));
+	}
+
+	@Test
+	void prefersRegisteredFactoryTakingSourceDirectlyRegardlessOfRegistrationOrder() {
+
+		PrimitivesToIdentifierConverter.registerFactory(OrderedIdentifier.class, String.class,
+				it -> new OrderedIdentifier("string:" + it));
+		PrimitivesToIdentifierConverter.registerFactory(OrderedIdentifier.class, UUID.class,
+				it -> new OrderedIdentifier("uuid:" + it));
+
+		PrimitivesToIdentifierConverter.registerFactory(ReverseOrderedIdentifier.class, UUID.class,
+				it -> new ReverseOrderedIdentifier("uuid:" + it));
+		PrimitivesToIdentifierConverter.registerFactory(ReverseOrderedIdentifier.class, String.class,
+				it -> new ReverseOrderedIdentifier("string:" + it));
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(converter.convert(uuid, UUID_DESCRIPTOR, TypeDescriptor.valueOf(OrderedIdentifier.class)))
+				.isEqualTo(new OrderedIdentifier("uuid:" + uuid));
+		assertThat(converter.convert(uuid, UUID_DESCRIPTOR, TypeDescriptor.valueOf(ReverseOrderedIdentifier.class)))
+				.isEqualTo(new ReverseOrderedIdentifier("uuid:" + uuid));
+	}
+
+	@Test
+	void prefersFactoryMethodTakingSourceDirectly() {
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(converter.convert(uuid, UUID_DESCRIPTOR, TypeDescriptor.valueOf(OverloadedIdentifier.class)))
+				.isEqualTo(new OverloadedIdentifier("uuid:" + uuid));
+	}
+
+	@Value
+	static class RegisteredIdentifier implements Identifier {
+		String id;
+	}
+
+	@Value
+	static class OrderedIdentifier implements Identifier {
+		String id;
+	}
+
+	@Value
+	static class ReverseOrderedIdentifier implements Identifier {
+		String id;
+	}
+
+	@Value
+	static class OverloadedIdentifier implements Identifier {
+
+		String id;
+
+		public static OverloadedIdentifier of(String source) {
+			return new OverloadedIdentifier("string:" + source);
+		}
+
+		public static OverloadedIdentifier of(UUID source) {
+			return new OverloadedIdentifier("uuid:" + source);
+		}
+	}
+
 	@Value
 	static class IdentifierWithoutFactoryMethod implements Identifier {
 		UUID id;
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReactiveAssociationResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReactiveAssociationResolverUnitTests {
+
+	AtomicInteger running = new AtomicInteger();
+	AtomicInteger maximum = new AtomicInteger();
+
+	ReactiveAssociationResolver<SampleAggregate, SampleIdentifier> resolver = id -> Mono.delay(Duration.ofMillis(10))
+			.doOnSubscribe(__ -> maximum.accumulateAndGet(running.incrementAndGet(), Math::max))
+			.doOnTerminate(running::decrementAndGet)
+			.thenReturn(new SampleAggregate(id));
+
+	@Test
+	void resolvesAssociationsWithBoundedConcurrency() {
+
+		List<Association<SampleAggregate, SampleIdentifier>> associations = IntStream.range(0, 20)
+				.mapToObj(__ -> Association.<SampleAggregate, SampleIdentifier> forId(SampleIdentifier.of(UUID.randomUUID())))
+				.collect(Collectors.toList());
+
+		assertThat(resolver.resolveAll(associations, 4).block(Duration.ofSeconds(5)))
+				.hasSize(20)
+				.containsOnlyKeys(associations.stream().map(Association::getId).collect(Collectors.toList()));
+		assertThat(maximum.get()).isBetween(1, 4);
+	}
+
+	@Test
+	void failsRequiredResolutionOfMissingAggregate() {
+
+		ReactiveAssociationResolver<SampleAggregate, SampleIdentifier> empty = id -> Mono.empty();
+		Association<SampleAggregate, SampleIdentifier> association = Association.forId(SampleIdentifier.of(UUID.randomUUID()));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> empty.resolveRequired(association).block());
+		assertThat(empty.resolveAll(List.of(association)).block()).isEmpty();
+	}
+
+	@Value
+	static class SampleAggregate implements AggregateRoot<SampleAggregate, SampleIdentifier> {
+		SampleIdentifier id;
+	}
+}
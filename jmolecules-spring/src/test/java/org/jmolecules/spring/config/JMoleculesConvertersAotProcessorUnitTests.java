@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Association;
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.javapoet.ClassName;
+
+/**
+ * Unit tests for {@link JMoleculesConvertersAotProcessor}.
+ *
+ * @author Oliver Drotbohm
+ */
+public class JMoleculesConvertersAotProcessorUnitTests { // public so that generated code can refer to the sample types
+
+	JMoleculesConvertersAotProcessor processor = new JMoleculesConvertersAotProcessor();
+
+	@Test
+	void doesNotContributeWithoutAutoConfigurationPackages() {
+		assertThat(processor.processAheadOfTime(new DefaultListableBeanFactory())).isNull();
+	}
+
+	@Test
+	void generatesFactoryRegistrations() throws IOException {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		AutoConfigurationPackages.register(beanFactory, getClass().getPackage().getName());
+
+		BeanFactoryInitializationAotContribution contribution = processor.processAheadOfTime(beanFactory);
+
+		assertThat(contribution).isNotNull();
+
+		InMemoryGeneratedFiles files = new InMemoryGeneratedFiles();
+		DefaultGenerationContext context = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.get("com.acme", "Application")), files);
+		GeneratedClass generatedClass = context.getGeneratedClasses().addForFeature("Test", it -> {});
+
+		BeanFactoryInitializationCode code = mock(BeanFactoryInitializationCode.class);
+		when(code.getMethods()).thenReturn(generatedClass.getMethods());
+
+		contribution.applyTo(context, code);
+		context.writeGeneratedContent();
+
+		String source = readSource(files, generatedClass.getName());
+
+		assertThat(source)
+				.contains("JMoleculesConverterConfigUtils.registerIdentifierFactory("
+						+ "JMoleculesConvertersAotProcessorUnitTests.FactoryMethodIdentifier.class, String.class, "
+						+ "JMoleculesConvertersAotProcessorUnitTests.FactoryMethodIdentifier::of)")
+				.contains("JMoleculesConverterConfigUtils.registerIdentifierFactory("
+						+ "JMoleculesConvertersAotProcessorUnitTests.ConstructorIdentifier.class, UUID.class, "
+						+ "JMoleculesConvertersAotProcessorUnitTests.ConstructorIdentifier::new)")
+				.contains("JMoleculesConverterConfigUtils.registerIdentifierFactory("
+						+ "JMoleculesConvertersAotProcessorUnitTests.NonPrimitiveFactoryMethodIdentifier.class, String.class, "
+						+ "JMoleculesConvertersAotProcessorUnitTests.NonPrimitiveFactoryMethodIdentifier::new)")
+				.doesNotContain("Long.class")
+				.contains("JMoleculesConverterConfigUtils.registerAssociationFactory("
+						+ "JMoleculesConvertersAotProcessorUnitTests.SampleAssociation.class, "
+						+ "JMoleculesConvertersAotProcessorUnitTests.FactoryMethodIdentifier.class, "
+						+ "JMoleculesConvertersAotProcessorUnitTests.SampleAssociation::of)")
+				.doesNotContain("NonPublicIdentifier");
+
+		verify(code).addInitializer(any());
+
+		// Not accessible from generated code, so registered for reflection
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onConstructor(NonPublicIdentifier.class.getDeclaredConstructors()[0]).invoke())
+				.accepts(context.getRuntimeHints());
+	}
+
+	private static String readSource(InMemoryGeneratedFiles files, ClassName name) throws IOException {
+
+		String path = name.canonicalName().replace('.', '/') + ".java";
+
+		try (InputStream stream = files.getGeneratedFiles(Kind.SOURCE).get(path).getInputStream()) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	public static class FactoryMethodIdentifier implements Identifier {
+
+		public static FactoryMethodIdentifier of(String source) {
+			return new FactoryMethodIdentifier();
+		}
+	}
+
+	public static class ConstructorIdentifier implements Identifier {
+		public ConstructorIdentifier(UUID id) {}
+	}
+
+	// Not considered by the runtime lookup, so the constructor is registered
+	public static class NonPrimitiveFactoryMethodIdentifier implements Identifier {
+
+		public NonPrimitiveFactoryMethodIdentifier(String id) {}
+
+		public static NonPrimitiveFactoryMethodIdentifier of(Long source) {
+			return new NonPrimitiveFactoryMethodIdentifier(source.toString());
+		}
+	}
+
+	static class NonPublicIdentifier implements Identifier {
+		NonPublicIdentifier(String id) {}
+	}
+
+	public static class SampleAggregate implements AggregateRoot<SampleAggregate, FactoryMethodIdentifier> {
+
+		@Override
+		public FactoryMethodIdentifier getId() {
+			return null;
+		}
+	}
+
+	public static class SampleAssociation implements Association<SampleAggregate, FactoryMethodIdentifier> {
+
+		public static SampleAssociation of(FactoryMethodIdentifier id) {
+			return new SampleAssociation();
+		}
+
+		@Override
+		public FactoryMethodIdentifier getId() {
+			return null;
+		}
+	}
+}
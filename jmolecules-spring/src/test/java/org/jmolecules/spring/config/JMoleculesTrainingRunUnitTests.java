@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Unit tests for {@link JMoleculesTrainingRun} and {@link JMoleculesTrainingRunAutoConfiguration}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JMoleculesTrainingRunUnitTests {
+
+	ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(JMoleculesTrainingRunAutoConfiguration.class,
+					JMoleculesSpringJacksonAutoConfiguration.class, JacksonAutoConfiguration.class))
+			.withInitializer(it -> AutoConfigurationPackages.register((BeanDefinitionRegistry) it.getBeanFactory(),
+					getClass().getPackage().getName()));
+
+	@Test
+	void isOnlyActivatedForTrainingRuns() {
+
+		runner.run(it -> assertThat(it).doesNotHaveBean(JMoleculesTrainingRun.class));
+		runner.withPropertyValues("spring.context.exit=onRefresh")
+				.run(it -> assertThat(it).hasSingleBean(JMoleculesTrainingRun.class));
+	}
+
+	@Test
+	void loadsDomainAndHelperTypes() {
+
+		runner.withPropertyValues("spring.context.exit=onRefresh").run(it -> {
+
+			assertThat(it).hasNotFailed();
+			assertThat(it.getBean(JMoleculesTrainingRun.class).warmUp())
+					.contains(SampleIdentifier.class, SampleInstantiator$jMolecules.class,
+							SampleAggregateAssociationConverter$jMolecules$bb3c174d.class)
+					.doesNotContain(JMoleculesTrainingRunUnitTests.class);
+		});
+	}
+
+	@Test
+	void detectsTypesThatCannotBeArchived() {
+
+		// Loaded from a JAR file
+		assertThat(JMoleculesTrainingRun.detectArchivingProblem(Identifier.class)).isEmpty();
+
+		// Bootstrap type
+		assertThat(JMoleculesTrainingRun.detectArchivingProblem(String.class)).isEmpty();
+
+		// Loaded from target/test-classes
+		assertThat(JMoleculesTrainingRun.detectArchivingProblem(SampleIdentifier.class))
+				.hasValue("not loaded from a JAR file");
+	}
+
+	static class SampleIdentifier implements Identifier {
+
+		static SampleIdentifier of(String source) {
+			return new SampleIdentifier();
+		}
+	}
+
+	// Named like the helper types generated by the ByteBuddy plugin
+	static class SampleInstantiator$jMolecules {}
+
+	static class SampleAggregateAssociationConverter$jMolecules$bb3c174d {}
+}
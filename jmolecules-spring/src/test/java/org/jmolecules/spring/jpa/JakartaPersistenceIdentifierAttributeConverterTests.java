@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jmolecules.spring.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JakartaPersistenceIdentifierAttributeConverter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class JakartaPersistenceIdentifierAttributeConverterTests {
+
+	JakartaPersistenceIdentifierAttributeConverter<SampleIdentifier, UUID> converter = new JakartaPersistenceIdentifierAttributeConverter<>(
+			SampleIdentifier.class);
+
+	UUID uuid = UUID.randomUUID();
+	SampleIdentifier identifier = SampleIdentifier.of(uuid);
+
+	@Test
+	void convertsIdentifierIntoPrimitive() {
+		assertThat(converter.convertToDatabaseColumn(identifier)).isEqualTo(uuid);
+	}
+
+	@Test
+	void convertsPrimitiveIntoIdentifier() {
+		assertThat(converter.convertToEntityAttribute(uuid)).isEqualTo(identifier);
+	}
+
+	@Test
+	void convertsNullValues() {
+
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+	}
+
+	@Value(staticConstructor = "of")
+	static class SampleIdentifier implements Identifier {
+		UUID id;
+	}
+}